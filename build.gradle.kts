@@ -9,6 +9,7 @@
 
 dependencies {
     nmcpAggregation(project(":problem4j-core"))
+    nmcpAggregation(project(":problem4j-core-processor"))
 }
 
 nmcpAggregation {
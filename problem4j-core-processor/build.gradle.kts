@@ -0,0 +1,21 @@
+plugins {
+    id("internal.convention-java-library")
+    id("internal.convention-publishing")
+    alias(libs.plugins.nmcp)
+}
+
+dependencies {
+    implementation(project(":problem4j-core"))
+
+    testImplementation(platform(libs.junit.bom))
+
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.platform.launcher)
+
+    testImplementation(libs.assertj.core)
+}
+
+internalPublishing {
+    displayName = "Problem4J Core Processor"
+    description = "Annotation processor generating reflection-free ProblemMapper implementations for @ProblemMapping"
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core.processor;
+
+import io.github.problem4j.core.ProblemMapping;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Source code of a {@code GeneratedProblemMapper} for a single {@link ProblemMapping} annotated
+ * exception class.
+ *
+ * <p>Templates are parsed with the same rules as at runtime and turned into string concatenations,
+ * placeholders referring to fields are turned into direct field reads. Constant {@code type} and
+ * {@code instance} URIs are validated at compile time and kept in static fields.
+ */
+final class MapperSource {
+
+  static final String MAPPER_SUFFIX = "_ProblemMapper";
+
+  private static final String MESSAGE_LABEL = "message";
+  private static final String CONTEXT_LABEL_PREFIX = "context.";
+
+  private static final String GENERATED_MAPPER = "io.github.problem4j.core.GeneratedProblemMapper";
+  private static final String PROBLEM_BUILDER = "io.github.problem4j.core.ProblemBuilder";
+  private static final String PROBLEM_CONTEXT = "io.github.problem4j.core.ProblemContext";
+
+  private final String packageName;
+  private final String simpleName;
+  private final String source;
+
+  private MapperSource(String packageName, String simpleName, String source) {
+    this.packageName = packageName;
+    this.simpleName = simpleName;
+    this.source = source;
+  }
+
+  /**
+   * Generates mapper source for the given annotated class.
+   *
+   * @param type the exception class annotated with {@link ProblemMapping}
+   * @param env the processing environment
+   * @return generated source
+   * @throws UnsupportedMappingException if the class cannot be mapped without reflection
+   */
+  static MapperSource create(TypeElement type, ProcessingEnvironment env)
+      throws UnsupportedMappingException {
+    return new Generator(type, env).generate();
+  }
+
+  String getQualifiedName() {
+    return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+  }
+
+  String getSource() {
+    return source;
+  }
+
+  /**
+   * Parses a template into literal parts and placeholder keys, using the same rules as the runtime
+   * mapper: {@code {key}} with at least one character, unclosed or empty braces are literals.
+   *
+   * @param template the template to parse
+   * @param literals output list of literal parts, one more than the number of placeholders
+   * @param keys output list of placeholder keys
+   */
+  static void parseTemplate(String template, List<String> literals, List<String> keys) {
+    int literalStart = 0;
+    int i = 0;
+    while (i < template.length()) {
+      if (template.charAt(i) == '{') {
+        int close = template.indexOf('}', i + 1);
+        if (close < 0) {
+          break;
+        }
+        if (close > i + 1) {
+          literals.add(template.substring(literalStart, i));
+          keys.add(template.substring(i + 1, close));
+          i = close + 1;
+          literalStart = i;
+          continue;
+        }
+      }
+      i++;
+    }
+    literals.add(template.substring(literalStart));
+  }
+
+  /**
+   * Converts a string into a Java string literal. Non-ASCII characters are written as unicode
+   * escapes and control characters as octal escapes, so the source does not depend on encoding.
+   */
+  static String literal(String value) {
+    StringBuilder result = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        result.append('\\').append(c);
+      } else if (c < 0x20) {
+        result.append(String.format("\\%03o", (int) c));
+      } else if (c >= 0x7F) {
+        result.append(String.format("\\u%04x", (int) c));
+      } else {
+        result.append(c);
+      }
+    }
+    return result.append('"').toString();
+  }
+
+  private static final class Generator {
+
+    private final TypeElement type;
+    private final ProcessingEnvironment env;
+    private final String packageName;
+
+    private final StringBuilder fields = new StringBuilder();
+    private final StringBuilder body = new StringBuilder();
+
+    private Generator(TypeElement type, ProcessingEnvironment env) {
+      this.type = type;
+      this.env = env;
+      this.packageName = packageName(type);
+    }
+
+    private MapperSource generate() throws UnsupportedMappingException {
+      verifyAccessible();
+
+      ProblemMapping mapping = type.getAnnotation(ProblemMapping.class);
+
+      applyUri("type", "TYPE", trim(mapping.type()));
+      applyText("title", trim(mapping.title()));
+      if (mapping.status() > 0) {
+        body.append("    builder.status(").append(mapping.status()).append(");\n");
+      }
+      applyText("detail", trim(mapping.detail()));
+      applyUri("instance", "INSTANCE", trim(mapping.instance()));
+      applyExtensions(mapping.extensions());
+
+      String simpleName = mapperSimpleName();
+      String typeName = type.getQualifiedName().toString();
+
+      StringBuilder source = new StringBuilder();
+      source.append("// Generated by problem4j-core-processor, do not edit.\n");
+      if (!packageName.isEmpty()) {
+        source.append("package ").append(packageName).append(";\n\n");
+      }
+      source
+          .append("public final class ")
+          .append(simpleName)
+          .append("\n    extends ")
+          .append(GENERATED_MAPPER)
+          .append('<')
+          .append(typeName)
+          .append("> {\n\n");
+      if (fields.length() > 0) {
+        source.append(fields).append('\n');
+      }
+      source
+          .append("  public ")
+          .append(simpleName)
+          .append("() {\n    super(")
+          .append(typeName)
+          .append(".class);\n  }\n\n");
+      source
+          .append("  @Override\n  protected void apply(\n      ")
+          .append(PROBLEM_BUILDER)
+          .append(" builder,\n      ")
+          .append(typeName)
+          .append(" t,\n      ")
+          .append(PROBLEM_CONTEXT)
+          .append(" context) {\n")
+          .append(body)
+          .append("  }\n}\n");
+
+      return new MapperSource(packageName, simpleName, source.toString());
+    }
+
+    private void verifyAccessible() throws UnsupportedMappingException {
+      TypeElement throwable = env.getElementUtils().getTypeElement("java.lang.Throwable");
+      if (!env.getTypeUtils().isSubtype(type.asType(), throwable.asType())) {
+        throw new UnsupportedMappingException("class is not a Throwable");
+      }
+      if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+        throw new UnsupportedMappingException("class is abstract");
+      }
+      Element current = type;
+      while (current.getKind().isClass() || current.getKind().isInterface()) {
+        TypeElement element = (TypeElement) current;
+        if (element.getModifiers().contains(Modifier.PRIVATE)) {
+          throw new UnsupportedMappingException("class is not accessible from its package");
+        }
+        if (element.getNestingKind() == NestingKind.TOP_LEVEL) {
+          return;
+        }
+        if (element.getNestingKind() != NestingKind.MEMBER
+            || (element.getKind() == ElementKind.CLASS
+                && !element.getModifiers().contains(Modifier.STATIC))) {
+          throw new UnsupportedMappingException("class is local, anonymous or inner class");
+        }
+        current = element.getEnclosingElement();
+      }
+    }
+
+    private String mapperSimpleName() {
+      StringBuilder name = new StringBuilder(type.getSimpleName());
+      Element current = type.getEnclosingElement();
+      while (current.getKind().isClass() || current.getKind().isInterface()) {
+        name.insert(0, '_').insert(0, current.getSimpleName());
+        current = current.getEnclosingElement();
+      }
+      return name.append(MAPPER_SUFFIX).toString();
+    }
+
+    private void applyUri(String name, String constant, String template)
+        throws UnsupportedMappingException {
+      if (template.isEmpty()) {
+        return;
+      }
+      String expression = expression(template);
+      if (expression.equals(literal(template))) {
+        try {
+          URI.create(template);
+        } catch (IllegalArgumentException e) {
+          // invalid URIs are ignored by runtime mapper as well
+          return;
+        }
+        fields
+            .append("  private static final java.net.URI ")
+            .append(constant)
+            .append(" = java.net.URI.create(")
+            .append(expression)
+            .append(");\n");
+        body.append("    builder.").append(name).append('(').append(constant).append(");\n");
+      } else {
+        body.append("    apply")
+            .append(capitalize(name))
+            .append("(builder, ")
+            .append(expression)
+            .append(");\n");
+      }
+    }
+
+    private void applyText(String name, String template) throws UnsupportedMappingException {
+      if (template.isEmpty()) {
+        return;
+      }
+      String expression = expression(template);
+      if (expression.equals(literal(template))) {
+        body.append("    builder.").append(name).append('(').append(expression).append(");\n");
+      } else {
+        body.append("    apply")
+            .append(capitalize(name))
+            .append("(builder, ")
+            .append(expression)
+            .append(");\n");
+      }
+    }
+
+    private void applyExtensions(String[] extensions) throws UnsupportedMappingException {
+      for (String extension : extensions) {
+        String name = trim(extension);
+        if (name.isEmpty()) {
+          continue;
+        }
+        String field = fieldRead(name);
+        if (field != null) {
+          body.append("    applyExtension(builder, ")
+              .append(literal(name))
+              .append(", ")
+              .append(field)
+              .append(");\n");
+        }
+      }
+    }
+
+    /** Builds a string concatenation rendering the template. */
+    private String expression(String template) throws UnsupportedMappingException {
+      List<String> literals = new ArrayList<>();
+      List<String> keys = new ArrayList<>();
+      parseTemplate(template, literals, keys);
+
+      List<String> parts = new ArrayList<>();
+      StringBuilder pendingLiteral = new StringBuilder(literals.get(0));
+      for (int i = 0; i < keys.size(); i++) {
+        String placeholder = placeholder(keys.get(i));
+        if (placeholder != null) {
+          if (pendingLiteral.length() > 0) {
+            parts.add(literal(pendingLiteral.toString()));
+            pendingLiteral.setLength(0);
+          }
+          parts.add(placeholder);
+        }
+        pendingLiteral.append(literals.get(i + 1));
+      }
+      if (pendingLiteral.length() > 0 || parts.isEmpty()) {
+        parts.add(literal(pendingLiteral.toString()));
+      }
+      if (parts.size() == 1 && !parts.get(0).startsWith("\"")) {
+        return parts.get(0);
+      }
+      return String.join(" + ", parts);
+    }
+
+    /**
+     * Returns expression resolving the placeholder, or {@code null} if it always resolves to an
+     * empty string. Placeholders with format specifiers are left to reflection-based mapping.
+     */
+    private String placeholder(String key) throws UnsupportedMappingException {
+      if (key.indexOf(':') >= 0) {
+        throw new UnsupportedMappingException("formatted placeholder " + key);
+      }
+      if (MESSAGE_LABEL.equals(key)) {
+        return "valueOf(t.getMessage())";
+      }
+      if (key.startsWith(CONTEXT_LABEL_PREFIX)) {
+        return "contextValue(context, "
+            + literal(key.substring(CONTEXT_LABEL_PREFIX.length()))
+            + ")";
+      }
+      String field = fieldRead(key);
+      return field != null ? "valueOf(" + field + ")" : null;
+    }
+
+    /**
+     * Returns expression reading the nearest field of given name, or {@code null} if there's no
+     * such field nor accessor method, so the placeholder always resolves to an empty value.
+     * Properties resolved by reflection to methods or nested paths are not supported.
+     */
+    private String fieldRead(String name) throws UnsupportedMappingException {
+      if (name.indexOf('.') >= 0) {
+        throw new UnsupportedMappingException("nested property path " + name);
+      }
+      TypeMirror current = type.asType();
+      while (current.getKind() == TypeKind.DECLARED) {
+        TypeElement element = (TypeElement) env.getTypeUtils().asElement(current);
+        if (element.getQualifiedName().contentEquals("java.lang.Object")) {
+          break;
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+          if (field.getSimpleName().contentEquals(name)) {
+            verifyAccessible(field, element);
+            return "t." + name;
+          }
+        }
+        current = element.getSuperclass();
+      }
+      if (hasAccessorMethod(name)) {
+        throw new UnsupportedMappingException("property " + name + " is read by accessor method");
+      }
+      return null;
+    }
+
+    /** Checks for methods matched by reflection-based mapping when there's no field of a name. */
+    private boolean hasAccessorMethod(String name) {
+      String capitalized = capitalize(name);
+      for (ExecutableElement method :
+          ElementFilter.methodsIn(env.getElementUtils().getAllMembers(type))) {
+        String methodName = method.getSimpleName().toString();
+        if (method.getParameters().isEmpty()
+            && !method.getModifiers().contains(Modifier.STATIC)
+            && method.getReturnType().getKind() != TypeKind.VOID
+            && (methodName.equals(name)
+                || methodName.equals("get" + capitalized)
+                || methodName.equals("is" + capitalized))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void verifyAccessible(VariableElement field, TypeElement declaringType)
+        throws UnsupportedMappingException {
+      Set<Modifier> modifiers = field.getModifiers();
+      if (modifiers.contains(Modifier.PUBLIC)) {
+        return;
+      }
+      if (modifiers.contains(Modifier.PRIVATE)
+          || !packageName(declaringType).equals(packageName)) {
+        throw new UnsupportedMappingException(
+            "field "
+                + declaringType.getQualifiedName()
+                + "."
+                + field.getSimpleName()
+                + " is not accessible from "
+                + (packageName.isEmpty() ? "unnamed package" : packageName));
+      }
+    }
+
+    private String packageName(TypeElement element) {
+      return env.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+    }
+
+    private static String trim(String value) {
+      return value != null ? value.trim() : "";
+    }
+
+    private static String capitalize(String value) {
+      return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core.processor;
+
+import io.github.problem4j.core.GeneratedProblemMapper;
+import io.github.problem4j.core.ProblemMapping;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates a reflection-free {@link GeneratedProblemMapper} for each
+ * class annotated with {@link ProblemMapping}.
+ *
+ * <p>Generated mappers are placed in the package of the exception class and registered in {@code
+ * META-INF/services/io.github.problem4j.core.GeneratedProblemMapper}, so that {@code
+ * ProblemMapper.create()} picks them up through {@link java.util.ServiceLoader}.
+ *
+ * <p>All annotated classes, including the ones without generated mapper, are listed in {@code
+ * META-INF/problem4j/problem-mappings} index, which is read by {@code
+ * ProblemMapperBuilder.discoverMappings()} to compile their mappings at startup.
+ *
+ * <p>Classes that cannot be mapped without reflection (for example because a placeholder refers to
+ * a private field, or the class itself is not accessible from its package) are skipped with a note
+ * and keep using reflection-based mapping at runtime.
+ */
+@SupportedAnnotationTypes(ProblemMappingProcessor.PROBLEM_MAPPING)
+public class ProblemMappingProcessor extends AbstractProcessor {
+
+  static final String PROBLEM_MAPPING = "io.github.problem4j.core.ProblemMapping";
+
+  static final String SERVICE_FILE =
+      "META-INF/services/io.github.problem4j.core.GeneratedProblemMapper";
+
+  static final String MAPPINGS_INDEX = "META-INF/problem4j/problem-mappings";
+
+  private final Set<String> generatedMappers = new TreeSet<>();
+  private final Set<String> mappedClasses = new TreeSet<>();
+
+  /** Creates a new processor instance, invoked by the compiler through service discovery. */
+  public ProblemMappingProcessor() {}
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeResource(SERVICE_FILE, generatedMappers);
+      writeResource(MAPPINGS_INDEX, mappedClasses);
+      return false;
+    }
+
+    for (Element element : roundEnv.getElementsAnnotatedWith(ProblemMapping.class)) {
+      if (element.getKind() == ElementKind.CLASS) {
+        TypeElement type = (TypeElement) element;
+        mappedClasses.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        generateMapper(type);
+      }
+    }
+    return false;
+  }
+
+  private void generateMapper(TypeElement type) {
+    MapperSource source;
+    try {
+      source = MapperSource.create(type, processingEnv);
+    } catch (UnsupportedMappingException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.NOTE,
+              "@ProblemMapping of "
+                  + type.getQualifiedName()
+                  + " will use reflection: "
+                  + e.getMessage(),
+              type);
+      return;
+    }
+
+    try {
+      JavaFileObject file =
+          processingEnv.getFiler().createSourceFile(source.getQualifiedName(), type);
+      try (Writer writer = file.openWriter()) {
+        writer.write(source.getSource());
+      }
+      generatedMappers.add(source.getQualifiedName());
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              "Failed to generate mapper for " + type.getQualifiedName() + ": " + e.getMessage(),
+              type);
+    }
+  }
+
+  private void writeResource(String name, Set<String> lines) {
+    if (lines.isEmpty()) {
+      return;
+    }
+    try {
+      FileObject file =
+          processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", name);
+      try (Writer writer = file.openWriter()) {
+        for (String line : lines) {
+          writer.write(line);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(Diagnostic.Kind.ERROR, "Failed to write " + name + ": " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core.processor;
+
+/**
+ * Thrown while generating a mapper source when the annotated class requires reflection to be
+ * mapped. Such classes are skipped by {@link ProblemMappingProcessor}.
+ */
+final class UnsupportedMappingException extends Exception {
+
+  private static final long serialVersionUID = 1L;
+
+  UnsupportedMappingException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.AbstractProblemMapper;
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.core.ProblemMapper;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProblemMappingProcessorTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void givenAccessibleFields_whenCompiling_thenGeneratesMapperEquivalentToReflection()
+      throws Exception {
+    compile(
+        "com/example/OrderException.java",
+        "package com.example;",
+        "",
+        "import io.github.problem4j.core.ProblemMapping;",
+        "",
+        "@ProblemMapping(",
+        "    type = \"https://example.org/orders\",",
+        "    title = \"Order {orderId} failed\",",
+        "    status = 409,",
+        "    detail = \"{message}, trace {context.traceId}{missing}\",",
+        "    instance = \"https://example.org/orders/{orderId}\",",
+        "    extensions = {\"orderId\", \"attempts\", \"missing\"})",
+        "public class OrderException extends RuntimeException {",
+        "  final String orderId;",
+        "  protected int attempts = 3;",
+        "",
+        "  public OrderException(String orderId) {",
+        "    super(\"order rejected\");",
+        "    this.orderId = orderId;",
+        "  }",
+        "}");
+
+    try (URLClassLoader loader = classLoader()) {
+      Throwable ex =
+          (Throwable)
+              loader
+                  .loadClass("com.example.OrderException")
+                  .getConstructor(String.class)
+                  .newInstance("o-1");
+      ProblemMapper generated =
+          (ProblemMapper)
+              loader
+                  .loadClass("com.example.OrderException_ProblemMapper")
+                  .getConstructor()
+                  .newInstance();
+      ProblemMapper reflective = new AbstractProblemMapper() {};
+      ProblemContext context = ProblemContext.create().put("traceId", "T-1");
+
+      Problem problem = generated.toProblemBuilder(ex, context).build();
+
+      assertThat(generated.isMappingCandidate(ex)).isTrue();
+      assertThat(problem).isEqualTo(reflective.toProblemBuilder(ex, context).build());
+      assertThat(problem)
+          .isEqualTo(
+              Problem.builder()
+                  .type("https://example.org/orders")
+                  .title("Order o-1 failed")
+                  .status(409)
+                  .detail("order rejected, trace T-1")
+                  .instance("https://example.org/orders/o-1")
+                  .extension("orderId", "o-1")
+                  .extension("attempts", 3)
+                  .build());
+    }
+    assertThat(readResource(ProblemMappingProcessor.SERVICE_FILE))
+        .containsExactly("com.example.OrderException_ProblemMapper");
+    assertThat(readResource(ProblemMappingProcessor.MAPPINGS_INDEX))
+        .containsExactly("com.example.OrderException");
+  }
+
+  @Test
+  void givenPrivateField_whenCompiling_thenSkipsGeneration() throws Exception {
+    compile(
+        "com/example/SecretException.java",
+        "package com.example;",
+        "",
+        "import io.github.problem4j.core.ProblemMapping;",
+        "",
+        "@ProblemMapping(detail = \"{secret}\")",
+        "public class SecretException extends RuntimeException {",
+        "  private final String secret = \"s\";",
+        "}");
+
+    assertThat(tempDir.resolve("classes/com/example/SecretException_ProblemMapper.class"))
+        .doesNotExist();
+    assertThat(tempDir.resolve("classes/" + ProblemMappingProcessor.SERVICE_FILE))
+        .doesNotExist();
+    assertThat(readResource(ProblemMappingProcessor.MAPPINGS_INDEX))
+        .containsExactly("com.example.SecretException");
+  }
+
+  @Test
+  void givenAccessorMethodOrNestedPath_whenCompiling_thenSkipsGeneration() throws Exception {
+    compile(
+        "com/example/AccessorException.java",
+        "package com.example;",
+        "",
+        "import io.github.problem4j.core.ProblemMapping;",
+        "",
+        "@ProblemMapping(title = \"{code}\", detail = \"{order.id}\")",
+        "public class AccessorException extends RuntimeException {",
+        "  public int getCode() {",
+        "    return 42;",
+        "  }",
+        "}");
+
+    assertThat(tempDir.resolve("classes/com/example/AccessorException_ProblemMapper.class"))
+        .doesNotExist();
+    assertThat(readResource(ProblemMappingProcessor.MAPPINGS_INDEX))
+        .containsExactly("com.example.AccessorException");
+  }
+
+  @Test
+  void givenNestedStaticClass_whenCompiling_thenGeneratesMapperWithEnclosingName()
+      throws Exception {
+    compile(
+        "com/example/Errors.java",
+        "package com.example;",
+        "",
+        "import io.github.problem4j.core.ProblemMapping;",
+        "",
+        "public class Errors {",
+        "  @ProblemMapping(title = \"Nested \\u00e9 \\\"quoted\\\"\", status = 400)",
+        "  public static class NestedException extends RuntimeException {}",
+        "}");
+
+    try (URLClassLoader loader = classLoader()) {
+      Throwable ex =
+          (Throwable)
+              loader.loadClass("com.example.Errors$NestedException").getConstructor().newInstance();
+      ProblemMapper generated =
+          (ProblemMapper)
+              loader
+                  .loadClass("com.example.Errors_NestedException_ProblemMapper")
+                  .getConstructor()
+                  .newInstance();
+
+      assertThat(generated.toProblemBuilder(ex).build())
+          .isEqualTo(Problem.builder().title("Nested \u00e9 \"quoted\"").status(400).build());
+    }
+    assertThat(readResource(ProblemMappingProcessor.MAPPINGS_INDEX))
+        .containsExactly("com.example.Errors$NestedException");
+  }
+
+  private void compile(String path, String... lines) throws IOException {
+    Path source = tempDir.resolve("src").resolve(path);
+    Files.createDirectories(source.getParent());
+    Files.write(source, Arrays.asList(lines), StandardCharsets.UTF_8);
+    Path classes = Files.createDirectories(tempDir.resolve("classes"));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(source.toFile());
+      List<String> options =
+          Arrays.asList(
+              "-classpath", coreClasspath(), "-d", classes.toString(), "-s", classes.toString());
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(null, fileManager, diagnostics, options, null, units);
+      task.setProcessors(Collections.singletonList(new ProblemMappingProcessor()));
+
+      assertThat(task.call()).as(diagnostics.getDiagnostics().toString()).isTrue();
+    }
+  }
+
+  private static String coreClasspath() {
+    try {
+      return new File(
+              ProblemMapper.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+          .getPath();
+    } catch (URISyntaxException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private URLClassLoader classLoader() throws IOException {
+    File classes = tempDir.resolve("classes").toFile();
+    return new URLClassLoader(new URL[] {classes.toURI().toURL()}, getClass().getClassLoader());
+  }
+
+  private List<String> readResource(String name) throws IOException {
+    return Files.readAllLines(tempDir.resolve("classes/" + name), StandardCharsets.UTF_8);
+  }
+}
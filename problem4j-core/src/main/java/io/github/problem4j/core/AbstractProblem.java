@@ -14,11 +14,11 @@
  */
 package io.github.problem4j.core;
 
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -51,8 +51,18 @@ public abstract class AbstractProblem implements Problem, Serializable {
   private final int status;
   private final String detail;
   private final URI instance;
+
+  /**
+   * A {@link ProblemExtensions}, declared as {@code Map} so that problems serialized by earlier
+   * versions, which kept a {@code HashMap} here, can still be read.
+   */
   private final Map<String, Object> extensions;
 
+  /** Lazily computed {@link #hashCode()}, valid if non-zero or if {@link #hashIsZero} is set. */
+  private transient int hash;
+
+  private transient boolean hashIsZero;
+
   /**
    * Constructs a new {@code AbstractProblem} instance with the given details.
    *
@@ -63,7 +73,7 @@ public abstract class AbstractProblem implements Problem, Serializable {
    * @param instance a URI reference that identifies the specific occurrence of the problem
    * @param extensions a map of additional, application-specific properties to include in the
    *     problem; a defensive copy is made, so changes to the original map do not affect this
-   *     instance
+   *     instance (may be {@code null} if there are none)
    */
   public AbstractProblem(
       URI type,
@@ -77,7 +87,7 @@ public AbstractProblem(
     this.status = status;
     this.detail = detail;
     this.instance = instance;
-    this.extensions = new HashMap<>(extensions);
+    this.extensions = ProblemExtensions.copyOf(extensions);
   }
 
   /**
@@ -125,7 +135,7 @@ public URI getInstance() {
    */
   @Override
   public Set<String> getExtensions() {
-    return Collections.unmodifiableSet(extensions.keySet());
+    return extensions.keySet();
   }
 
   /**
@@ -162,7 +172,7 @@ public boolean hasExtension(String extension) {
    */
   @Override
   public Map<String, Object> getExtensionMembers() {
-    return Collections.unmodifiableMap(extensions);
+    return extensions;
   }
 
   /**
@@ -176,6 +186,40 @@ public ProblemBuilder toBuilder() {
     return new ProblemBuilderImpl(this);
   }
 
+  /**
+   * Derives a problem with one extension added, or replaced if already present. The extensions of
+   * this problem are shared, not copied, except by every eighth problem in a chain of derived ones,
+   * which copies them once so that lookups stay fast.
+   *
+   * @param name the extension key; this problem is returned if {@code null}
+   * @param value the extension value; this problem is returned if {@code null}
+   * @return a new {@link Problem} with the extension
+   */
+  @Override
+  public Problem withExtension(String name, Object value) {
+    if (name == null || value == null) {
+      return this;
+    }
+    return new ProblemImpl(
+        getType(),
+        getTitle(),
+        getStatus(),
+        getDetail(),
+        getInstance(),
+        ProblemExtensions.copyOf(extensions).with(name, value));
+  }
+
+  /**
+   * Derives a problem with given instance. The extensions of this problem are shared, not copied.
+   *
+   * @param instance the instance URI (may be {@code null})
+   * @return a new {@link Problem} with the instance
+   */
+  @Override
+  public Problem withInstance(URI instance) {
+    return new ProblemImpl(getType(), getTitle(), getStatus(), getDetail(), instance, extensions);
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) {
@@ -184,19 +228,48 @@ public boolean equals(Object obj) {
     if (!(obj instanceof Problem)) {
       return false;
     }
+    if (obj instanceof AbstractProblem && hashCode() != obj.hashCode()) {
+      return false;
+    }
     Problem problem = (Problem) obj;
-    return Objects.equals(getType(), problem.getType())
+    return getStatus() == problem.getStatus()
+        && Objects.equals(getType(), problem.getType())
         && Objects.equals(getTitle(), problem.getTitle())
-        && getStatus() == problem.getStatus()
         && Objects.equals(getDetail(), problem.getDetail())
         && Objects.equals(getInstance(), problem.getInstance())
         && Objects.equals(getExtensionMembers(), problem.getExtensionMembers());
   }
 
+  /**
+   * Returns hash code of this problem, the same as {@link Objects#hash(Object...)} of its type,
+   * title, status, detail, instance and extension members. As the problem is immutable, the hash
+   * is computed once and cached.
+   *
+   * @return hash code of this problem
+   */
   @Override
   public int hashCode() {
-    return Objects.hash(
-        getType(), getTitle(), getStatus(), getDetail(), getInstance(), getExtensionMembers());
+    int hash = this.hash;
+    if (hash == 0 && !hashIsZero) {
+      hash = computeHashCode();
+      if (hash == 0) {
+        hashIsZero = true;
+      } else {
+        this.hash = hash;
+      }
+    }
+    return hash;
+  }
+
+  private int computeHashCode() {
+    int hash = 1;
+    hash = 31 * hash + Objects.hashCode(getType());
+    hash = 31 * hash + Objects.hashCode(getTitle());
+    hash = 31 * hash + getStatus();
+    hash = 31 * hash + Objects.hashCode(getDetail());
+    hash = 31 * hash + Objects.hashCode(getInstance());
+    hash = 31 * hash + Objects.hashCode(getExtensionMembers());
+    return hash;
   }
 
   @Override
@@ -244,6 +317,52 @@ private String getObjectLine(String field, Object value) {
     return "\"" + field + "\" : \"" + className + ":" + quote(value.toString()) + "\"";
   }
 
+  /**
+   * Serializes problems of this package as {@link SerializedForm}. Subclasses from other packages
+   * do not inherit this method and keep their default serialized form.
+   */
+  Object writeReplace() {
+    return new SerializedForm(this);
+  }
+
+  /**
+   * Serialized form of problems of this package, with the members of problems that kept extensions
+   * in a {@code HashMap} field. Read back as {@link ProblemImpl}.
+   */
+  private static final class SerializedForm implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ObjectStreamField[] serialPersistentFields = {
+      new ObjectStreamField("type", URI.class),
+      new ObjectStreamField("title", String.class),
+      new ObjectStreamField("status", int.class),
+      new ObjectStreamField("detail", String.class),
+      new ObjectStreamField("instance", URI.class),
+      new ObjectStreamField("extensions", Map.class)
+    };
+
+    private final URI type;
+    private final String title;
+    private final int status;
+    private final String detail;
+    private final URI instance;
+    private final Map<String, Object> extensions;
+
+    private SerializedForm(Problem problem) {
+      this.type = problem.getType();
+      this.title = problem.getTitle();
+      this.status = problem.getStatus();
+      this.detail = problem.getDetail();
+      this.instance = problem.getInstance();
+      this.extensions = new LinkedHashMap<>(problem.getExtensionMembers());
+    }
+
+    private Object readResolve() {
+      return new ProblemImpl(type, title, status, detail, instance, extensions);
+    }
+  }
+
   public abstract static class AbstractExtension implements Extension, Serializable {
 
     private static final long serialVersionUID = 1L;
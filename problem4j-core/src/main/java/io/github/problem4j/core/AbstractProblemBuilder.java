@@ -14,11 +14,18 @@
  */
 package io.github.problem4j.core;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -32,12 +39,42 @@ public abstract class AbstractProblemBuilder implements ProblemBuilder, Serializ
 
   private static final long serialVersionUID = 1L;
 
+  /**
+   * Serialized form, the same as of builders that kept extensions in a {@code LinkedHashMap}
+   * field, so that builders serialized by earlier versions can still be read and vice versa.
+   * Extensions are written and read as such map by {@link #writeObject(ObjectOutputStream)} and
+   * {@link #readObject(ObjectInputStream)}.
+   */
+  private static final ObjectStreamField[] serialPersistentFields = {
+    new ObjectStreamField("type", URI.class),
+    new ObjectStreamField("title", String.class),
+    new ObjectStreamField("status", int.class),
+    new ObjectStreamField("detail", String.class),
+    new ObjectStreamField("instance", URI.class),
+    new ObjectStreamField("extensions", Map.class)
+  };
+
+  private static final Object[] NO_EXTENSIONS = new Object[0];
+
   private URI type;
   private String title;
   private int status = 0;
   private String detail;
   private URI instance;
-  private final Map<String, Object> extensions = new LinkedHashMap<>();
+
+  /**
+   * Extensions in the layout of {@link ProblemExtensions} - keys at even and values at odd
+   * positions, in insertion order. The array is handed over to problems created by {@link
+   * #build()} and to builders created from such problems, so it's copied before being modified
+   * whenever {@link #extensionsShared} is set.
+   */
+  private transient Object[] extensionEntries = NO_EXTENSIONS;
+
+  private transient int extensionCount;
+  private transient boolean extensionsShared;
+
+  /** Positions of extension keys, built only for more than a few extensions. */
+  private transient Map<String, Integer> extensionPositions;
 
   /**
    * Creates a new, empty {@code AbstractProblemBuilder}.
@@ -62,7 +99,14 @@ public AbstractProblemBuilder(Problem problem) {
     this.status = problem.getStatus();
     this.detail = problem.getDetail();
     this.instance = problem.getInstance();
-    this.extensions.putAll(problem.getExtensionMembers());
+    Map<String, Object> extensions = problem.getExtensionMembers();
+    if (extensions instanceof ProblemExtensions) {
+      this.extensionEntries = ((ProblemExtensions) extensions).entries();
+      this.extensionCount = extensions.size();
+      this.extensionsShared = true;
+    } else {
+      extensions.forEach(this::putExtension);
+    }
   }
 
   /**
@@ -170,7 +214,7 @@ public ProblemBuilder instance(String instance) {
   @Override
   public ProblemBuilder extension(String name, Object value) {
     if (name != null && value != null) {
-      extensions.put(name, value);
+      putExtension(name, value);
     }
     return this;
   }
@@ -187,7 +231,7 @@ public ProblemBuilder extension(Map<String, Object> extensions) {
       extensions.forEach(
           (key, value) -> {
             if (key != null && value != null) {
-              this.extensions.put(key, value);
+              putExtension(key, value);
             }
           });
     }
@@ -205,7 +249,7 @@ public ProblemBuilder extension(Problem.Extension... extensions) {
     if (extensions != null && extensions.length > 0) {
       Stream.of(extensions)
           .filter(AbstractProblemBuilder::isExtensionValid)
-          .forEach(e -> this.extensions.put(e.getKey(), e.getValue()));
+          .forEach(e -> putExtension(e.getKey(), e.getValue()));
     }
     return this;
   }
@@ -221,7 +265,7 @@ public ProblemBuilder extension(Collection<? extends Problem.Extension> extensio
     if (extensions != null && !extensions.isEmpty()) {
       extensions.stream()
           .filter(AbstractProblemBuilder::isExtensionValid)
-          .forEach(e -> this.extensions.put(e.getKey(), e.getValue()));
+          .forEach(e -> putExtension(e.getKey(), e.getValue()));
     }
     return this;
   }
@@ -240,9 +284,13 @@ public ProblemBuilder extension(Collection<? extends Problem.Extension> extensio
    *   <li>The numeric status defaults to <code>0</code> when not set; a title will not be derived
    *       from status when it is <code>0</code> or when it does not map to any known {@code
    *       ProblemStatus}.
-   *   <li>Any extensions configured on the builder will be present on the created {@code Problem}.
+   *   <li>Any extensions configured on the builder will be present on the created {@code Problem},
+   *       in the order they were first added.
    * </ul>
    *
+   * <p>The created problem takes over the extensions of this builder without copying them. The
+   * builder remains usable, copying its extensions only if they're modified afterwards.
+   *
    * @return a new {@link Problem} instance
    */
   @Override
@@ -258,7 +306,85 @@ public Problem build() {
         title = status.get().getTitle();
       }
     }
-    return new ProblemImpl(type, title, status, detail, instance, extensions);
+    extensionsShared = true;
+    return new ProblemImpl(
+        type,
+        title,
+        status,
+        detail,
+        instance,
+        ProblemExtensions.wrap(extensionEntries, extensionCount));
+  }
+
+  private void putExtension(String name, Object value) {
+    int position = extensionPosition(name);
+    if (extensionsShared) {
+      int capacity = (extensionCount + (position < 0 ? 1 : 0)) * 2;
+      extensionEntries = Arrays.copyOf(extensionEntries, Math.max(capacity, 8));
+      extensionsShared = false;
+    }
+    if (position >= 0) {
+      extensionEntries[position * 2 + 1] = value;
+      return;
+    }
+    if (extensionCount * 2 == extensionEntries.length) {
+      extensionEntries = Arrays.copyOf(extensionEntries, Math.max(extensionCount * 4, 8));
+    }
+    extensionEntries[extensionCount * 2] = name;
+    extensionEntries[extensionCount * 2 + 1] = value;
+    if (extensionPositions != null) {
+      extensionPositions.put(name, extensionCount);
+    }
+    extensionCount++;
+  }
+
+  /** Returns position of the extension with given name, or {@code -1} if not added yet. */
+  private int extensionPosition(String name) {
+    if (extensionCount <= ProblemExtensions.LINEAR_SCAN_THRESHOLD) {
+      for (int i = 0; i < extensionCount; i++) {
+        if (Objects.equals(name, extensionEntries[i * 2])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    if (extensionPositions == null) {
+      extensionPositions = new HashMap<>();
+      for (int i = 0; i < extensionCount; i++) {
+        extensionPositions.put((String) extensionEntries[i * 2], i);
+      }
+    }
+    Integer position = extensionPositions.get(name);
+    return position != null ? position : -1;
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    Map<String, Object> extensions = new LinkedHashMap<>();
+    for (int i = 0; i < extensionCount; i++) {
+      extensions.put((String) extensionEntries[i * 2], extensionEntries[i * 2 + 1]);
+    }
+    ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("type", type);
+    fields.put("title", title);
+    fields.put("status", status);
+    fields.put("detail", detail);
+    fields.put("instance", instance);
+    fields.put("extensions", extensions);
+    out.writeFields();
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    ObjectInputStream.GetField fields = in.readFields();
+    type = (URI) fields.get("type", null);
+    title = (String) fields.get("title", null);
+    status = fields.get("status", 0);
+    detail = (String) fields.get("detail", null);
+    instance = (URI) fields.get("instance", null);
+    extensionEntries = NO_EXTENSIONS;
+    Map<?, ?> extensions = (Map<?, ?>) fields.get("extensions", null);
+    if (extensions != null) {
+      extensions.forEach((name, value) -> putExtension((String) name, value));
+    }
   }
 
   private static boolean isExtensionValid(Problem.Extension extension) {
@@ -14,8 +14,12 @@
  */
 package io.github.problem4j.core;
 
-import java.lang.reflect.Field;
-import java.util.regex.Matcher;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -23,17 +27,23 @@
  * algorithm is as follows:
  *
  * <ol>
- *   <li>Check if the exception class has {@link ProblemMapping}; if not, return null.
+ *   <li>Resolve the mapping plan of the exception class. The {@link ProblemMapping} annotation is
+ *       read, trimmed and checked for placeholders only once per class, and the resulting plan is
+ *       cached for subsequent calls.
+ *   <li>If the exception class has no {@link ProblemMapping}, return an empty {@link
+ *       ProblemBuilder} (or {@code null} from {@link #tryMap(Throwable, ProblemContext)}).
  *   <li>Create a {@link ProblemBuilder} to accumulate the problem details.
  *   <li>For each standard field ({@code type}, {@code title}, {@code status}, {@code detail},
  *       {@code instance}):
  *       <ol>
- *         <li>Read the raw annotation value.
+ *         <li>Take the pre-trimmed annotation value from the plan.
  *         <li>Interpolate placeholders of the form {@code {name}}:
  *             <ul>
  *               <li>{@code {message}} -> {@link Throwable#getMessage()}
  *               <li>{@code {context.*}} -> {@link ProblemContext#get(String)}
- *               <li>{@code {fieldName}} -> any field in the exception class hierarchy
+ *               <li>{@code {fieldName}} -> any field in the exception class hierarchy, or an
+ *                   accessor method or getter, see {@link #resolvePlaceholderSource(Throwable,
+ *                   String)}
  *             </ul>
  *         <li>Ignore placeholders that resolve to null or empty string.
  *         <li>Assign the interpolated value to the {@link ProblemBuilder}, ignoring invalid URIs
@@ -53,14 +63,85 @@
  * <p>This design allows dynamic, context-aware Problem generation, supports subclass inheritance,
  * and ensures that null or empty values do not appear in the output, making Problems concise and
  * meaningful.
+ *
+ * <p>Subclasses that override any of the {@code apply*OnBuilder} methods or {@link
+ * #interpolate(String, Throwable, ProblemContext)} are mapped by calling these methods in order,
+ * with the annotation passed as resolved for the plan, so that the overrides keep taking effect.
+ * Whether a subclass overrides them is checked once per mapper class.
  */
 public abstract class AbstractProblemMapper implements ProblemMapper {
 
+  /** Pattern of supported placeholders, templates are parsed by an equivalent scanner. */
   protected static final Pattern PLACEHOLDER = Pattern.compile("\\{([^}]+)}");
 
   protected static final String MESSAGE_LABEL = "message";
   protected static final String CONTEXT_LABEL_PREFIX = "context.";
 
+  /**
+   * Set on the mapping thread when a plan gets compiled, to tell the listener whether the plan was
+   * already cached. Used only if a listener is installed.
+   */
+  private static final ThreadLocal<boolean[]> PLAN_COMPILED =
+      ThreadLocal.withInitial(() -> new boolean[1]);
+
+  /** Names of the protected methods whose overrides switch a mapper to the hook-based mapping. */
+  private static final Set<String> HOOKS =
+      new HashSet<>(
+          Arrays.asList(
+              "applyTypeOnBuilder",
+              "applyTitleOnBuilder",
+              "applyStatusOnBuilder",
+              "applyDetailOnBuilder",
+              "applyInstanceOnBuilder",
+              "applyExtensionsOnBuilder",
+              "interpolate"));
+
+  /** Whether a mapper class overrides any of {@link #HOOKS}, resolved once per mapper class. */
+  private static final ClassValue<Boolean> OVERRIDES_HOOKS =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          return overridesHooks(type);
+        }
+      };
+
+  private final ProblemMapperListener listener;
+
+  private final boolean overridesHooks = OVERRIDES_HOOKS.get(getClass());
+
+  private final ClassValue<ProblemMappingPlan> plans =
+      new ClassValue<ProblemMappingPlan>() {
+        @Override
+        protected ProblemMappingPlan computeValue(Class<?> type) {
+          ProblemMappingPlan plan = ProblemMappingPlan.compile(findAnnotation(type));
+          if (listener != null) {
+            PLAN_COMPILED.get()[0] = true;
+          }
+          return plan;
+        }
+      };
+
+  /** Creates a mapper without a {@link ProblemMapperListener}. */
+  protected AbstractProblemMapper() {
+    this(null);
+  }
+
+  /**
+   * Creates a mapper notifying given listener about each mapped exception.
+   *
+   * @param listener the listener (may be {@code null})
+   */
+  protected AbstractProblemMapper(ProblemMapperListener listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * @return the listener notified about mapped exceptions, or {@code null} if there is none
+   */
+  protected ProblemMapperListener getListener() {
+    return listener;
+  }
+
   @Override
   public ProblemBuilder toProblemBuilder(Throwable t) {
     return toProblemBuilder(t, null);
@@ -77,23 +158,69 @@ public ProblemBuilder toProblemBuilder(Throwable t) {
    */
   @Override
   public ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context) {
+    ProblemBuilder builder = tryMap(t, context);
+    return builder != null ? builder : Problem.builder();
+  }
+
+  /**
+   * Convert {@link Throwable} -> {@link ProblemBuilder} according to its {@link ProblemMapping}
+   * annotation, or return {@code null} if the exception class is not mapped.
+   *
+   * <p>Whether a class is mapped is resolved once and cached, so for unmapped exceptions this
+   * method performs a single cache lookup and allocates nothing.
+   *
+   * @param t {@link Throwable} to convert (may be {@code null})
+   * @param context optional {@link ProblemContext} (may be {@code null})
+   * @return a {@link ProblemBuilder} instance, or {@code null} if {@code t} is {@code null} or its
+   *     class is not annotated with {@link ProblemMapping}
+   * @throws ProblemMappingException when something goes wrong while building the Problem
+   */
+  @Override
+  public ProblemBuilder tryMap(Throwable t, ProblemContext context) {
     if (t == null) {
-      return Problem.builder();
+      return null;
     }
-    ProblemMapping mapping = findAnnotation(t.getClass());
-    if (mapping == null) {
-      return Problem.builder();
+    if (listener != null) {
+      return tryMapObserved(t, context);
+    }
+    ProblemMappingPlan plan = plans.get(t.getClass());
+    return plan.isMapped() ? applyPlan(plan, t, context) : null;
+  }
+
+  private ProblemBuilder tryMapObserved(Throwable t, ProblemContext context) {
+    Class<? extends Throwable> type = t.getClass();
+    listener.mappingStarted(type);
+
+    boolean[] compiled = PLAN_COMPILED.get();
+    compiled[0] = false;
+    long start = System.nanoTime();
+    try {
+      ProblemMappingPlan plan = plans.get(type);
+      boolean cachedPlan = !compiled[0];
+      if (!plan.isMapped()) {
+        listener.mappingFinished(type, false, cachedPlan, 0L);
+        return null;
+      }
+
+      start = System.nanoTime();
+      ProblemBuilder builder = applyPlan(plan, t, context);
+      listener.mappingFinished(type, true, cachedPlan, System.nanoTime() - start);
+      return builder;
+    } catch (RuntimeException e) {
+      listener.mappingFailed(type, e, System.nanoTime() - start);
+      throw e;
     }
+  }
 
+  private ProblemBuilder applyPlan(ProblemMappingPlan plan, Throwable t, ProblemContext context) {
     ProblemBuilder builder = Problem.builder();
 
     try {
-      applyTypeOnBuilder(builder, mapping, t, context);
-      applyTitleOnBuilder(builder, mapping, t, context);
-      applyStatusOnBuilder(mapping, builder);
-      applyDetailOnBuilder(builder, mapping, t, context);
-      applyInstanceOnBuilder(builder, mapping, t, context);
-      applyExtensionsOnBuilder(builder, mapping, t);
+      if (overridesHooks) {
+        applyHooksOnBuilder(builder, plan.getMapping(), t, context);
+      } else {
+        applyPlanOnBuilder(builder, plan, t, context);
+      }
       return builder;
     } catch (ProblemMappingException e) {
       // explicit rethrow so next clause doesn't have ProblemProcessingException as a cause
@@ -104,7 +231,19 @@ public ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context) {
   }
 
   /**
-   * Checks whether the given exception class is annotated with {@link ProblemMapping}.
+   * Compiles and caches the mapping plan of given exception class ahead of its first mapping.
+   *
+   * @param type the exception class
+   * @return the cached plan
+   */
+  ProblemMappingPlan preparePlan(Class<?> type) {
+    return plans.get(type);
+  }
+
+  /**
+   * Checks whether the given exception class is annotated with {@link ProblemMapping}. Shares the
+   * cached per-class verdict with {@link #toProblemBuilder(Throwable, ProblemContext)}, so calling
+   * both does not inspect annotations twice.
    *
    * @param t {@link Throwable} to check (may be {@code null})
    * @return {@code true} if the exception class has a {@link ProblemMapping} annotation, {@code
@@ -112,12 +251,15 @@ public ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context) {
    */
   @Override
   public boolean isMappingCandidate(Throwable t) {
-    return t != null && t.getClass().isAnnotationPresent(ProblemMapping.class);
+    return t != null && plans.get(t.getClass()).isMapped();
   }
 
   /**
    * Returns the {@link ProblemMapping} annotation from the class if present, otherwise null.
    *
+   * <p>Invoked once per exception class, the result is compiled into a cached mapping plan, which
+   * is shared by all mapping methods. Absence of the annotation is cached as well.
+   *
    * @param clazz the class to inspect
    * @return the {@link ProblemMapping} annotation if present, otherwise null
    */
@@ -125,6 +267,85 @@ protected ProblemMapping findAnnotation(Class<?> clazz) {
     return clazz.getAnnotation(ProblemMapping.class);
   }
 
+  /**
+   * Applies all values of the compiled plan on the builder. Templates without placeholders are used
+   * as-is.
+   */
+  private void applyPlanOnBuilder(
+      ProblemBuilder builder, ProblemMappingPlan plan, Throwable t, ProblemContext context) {
+    URI type = plan.getType().resolve(t, context, this);
+    if (type != null) {
+      builder.type(type);
+    }
+
+    String title = plan.getTitle().render(t, context, this);
+    if (!title.isEmpty()) {
+      builder.title(title);
+    }
+
+    if (plan.getStatus() > 0) {
+      builder.status(plan.getStatus());
+    }
+
+    String detail = plan.getDetail().render(t, context, this);
+    if (!detail.isEmpty()) {
+      builder.detail(detail);
+    }
+
+    URI instance = plan.getInstance().resolve(t, context, this);
+    if (instance != null) {
+      builder.instance(instance);
+    }
+
+    for (String name : plan.getExtensions()) {
+      Object value = resolvePlaceholderSource(t, name);
+      if (value != null && !(value instanceof String && ((String) value).isEmpty())) {
+        builder.extension(name, value);
+      }
+    }
+  }
+
+  /**
+   * Applies the annotation through the overridable {@code apply*OnBuilder} methods, which
+   * interpolate values with {@link #interpolate(String, Throwable, ProblemContext)}, for subclasses
+   * that customize any of them. The annotation is still resolved only once per exception class.
+   */
+  private void applyHooksOnBuilder(
+      ProblemBuilder builder, ProblemMapping mapping, Throwable t, ProblemContext context) {
+    applyTypeOnBuilder(builder, mapping, t, context);
+    applyTitleOnBuilder(builder, mapping, t, context);
+    applyStatusOnBuilder(mapping, builder);
+    applyDetailOnBuilder(builder, mapping, t, context);
+    applyInstanceOnBuilder(builder, mapping, t, context);
+    applyExtensionsOnBuilder(builder, mapping, t);
+  }
+
+  private static boolean overridesHooks(Class<?> type) {
+    for (Class<?> c = type; c != AbstractProblemMapper.class; c = c.getSuperclass()) {
+      for (Method method : c.getDeclaredMethods()) {
+        if (isHookOverride(method)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean isHookOverride(Method method) {
+    if (!HOOKS.contains(method.getName())
+        || method.isBridge()
+        || Modifier.isStatic(method.getModifiers())
+        || Modifier.isPrivate(method.getModifiers())) {
+      return false;
+    }
+    try {
+      AbstractProblemMapper.class.getDeclaredMethod(method.getName(), method.getParameterTypes());
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   /**
    * Applies the "type" value from {@link ProblemMapping#type()} after placeholder interpolation;
    * ignores invalid URIs.
@@ -257,70 +478,42 @@ protected void applyExtensionsOnBuilder(
    *   <li>{@code message} - throwable message
    *   <li>{@code {context.*}} -> value from {@link ProblemContext} included in {@link
    *       ProblemMapper} methods
-   *   <li>Any other token - value of a matching field in the throwable class hierarchy
+   *   <li>Any other token - value of a matching property of the throwable, see {@link
+   *       #resolvePlaceholderSource(Throwable, String)}
    * </ul>
    *
    * <p>Missing values resolve to an empty string.
    *
+   * <p>Unless this method is overridden, templates of {@link ProblemMapping} values are compiled
+   * once per exception class and rendered without going through it. An override is detected once
+   * per mapper class, and then all values are interpolated by this method, on every mapping.
+   *
    * @param template the template string containing placeholders
    * @param t the throwable to extract values from
    * @param context the problem context for additional data
    * @return the interpolated string with placeholders replaced by actual values
    */
   protected String interpolate(String template, Throwable t, ProblemContext context) {
-    Matcher m = PLACEHOLDER.matcher(template);
-    StringBuilder sb = new StringBuilder();
-
-    int lastEnd = 0;
-    while (m.find()) {
-      sb.append(template, lastEnd, m.start());
-
-      String key = m.group(1);
-      String replacement;
-
-      if (MESSAGE_LABEL.equals(key)) {
-        replacement = t.getMessage() == null ? "" : String.valueOf(t.getMessage());
-      } else if (key.startsWith(CONTEXT_LABEL_PREFIX)) {
-        String contextKey = key.substring(CONTEXT_LABEL_PREFIX.length());
-        replacement =
-            (context == null || !context.containsKey(contextKey)) ? "" : context.get(contextKey);
-      } else {
-        Object v = resolvePlaceholderSource(t, key);
-        replacement = v == null ? "" : String.valueOf(v);
-      }
-
-      sb.append(replacement);
-      lastEnd = m.end();
-    }
-
-    sb.append(template, lastEnd, template.length()); // append the tail
-    return sb.toString();
+    return MappingTemplate.compile(template).render(t, context, this);
   }
 
   /**
-   * Resolves a placeholder by reflective field lookup up the throwable class hierarchy.
+   * Resolves a placeholder by property lookup on the throwable. A name may be a dot-separated path
+   * such as {@code order.id}, and each of its properties is resolved to the nearest field of that
+   * name, a no-argument method of that name (for example {@code getCode} or a record component
+   * accessor), or a {@code getX}/{@code isX} getter, in this order. Non-getter methods of {@link
+   * Throwable} and {@link Object}, such as {@code fillInStackTrace}, are never called. Accessors
+   * are resolved once per class and name (including missing ones) and read through cached {@link
+   * java.lang.invoke.MethodHandle}s.
    *
    * @param t the throwable to inspect
-   * @param name the field name to look for
-   * @return the field value if found, otherwise null
+   * @param name the property name or dot-separated path to look for
+   * @return the property value if found, otherwise null
    */
   protected Object resolvePlaceholderSource(Throwable t, String name) {
     if (name == null || name.isEmpty()) {
       return null;
     }
-    Class<?> search = t.getClass();
-    while (search != null && search != Object.class) {
-      try {
-        Field f = search.getDeclaredField(name);
-        f.setAccessible(true);
-        return f.get(t);
-      } catch (NoSuchFieldException ignored) {
-        // ignored, loop will go to parent class to see if that field exists there
-      } catch (Exception ignored) {
-        return null;
-      }
-      search = search.getSuperclass();
-    }
-    return null;
+    return PropertyPath.of(name).resolve(t);
   }
 }
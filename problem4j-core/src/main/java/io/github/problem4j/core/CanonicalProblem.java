@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Shared status-only {@link Problem} of a {@link ProblemStatus}, returned by {@link
+ * Problem#of(ProblemStatus)}, together with its pre-encoded {@code application/problem+json} body.
+ *
+ * <p>Instances are created once per {@link ProblemStatus} constant, when first requested. Racing
+ * first requests may create more than one, but all callers get the one published first.
+ */
+final class CanonicalProblem extends AbstractProblem {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final AtomicReferenceArray<CanonicalProblem> INSTANCES =
+      new AtomicReferenceArray<>(ProblemStatus.values().length);
+
+  private final ProblemStatus problemStatus;
+  private final transient byte[] json;
+
+  private CanonicalProblem(ProblemStatus status) {
+    super(
+        Problem.BLANK_TYPE,
+        status.getTitle(),
+        status.getStatus(),
+        null,
+        null,
+        Collections.emptyMap());
+    this.problemStatus = status;
+    this.json = encode(status);
+  }
+
+  /** Encodes an equal, fully constructed problem, so that {@code this} does not escape. */
+  private static byte[] encode(ProblemStatus status) {
+    Problem problem =
+        new ProblemImpl(
+            Problem.BLANK_TYPE, status.getTitle(), status.getStatus(), null, null, null);
+    return ProblemJsonWriter.toJson(problem).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @param status the status, must not be {@code null}
+   * @return the shared problem of given status
+   */
+  static CanonicalProblem of(ProblemStatus status) {
+    CanonicalProblem instance = INSTANCES.get(status.ordinal());
+    if (instance == null) {
+      INSTANCES.compareAndSet(status.ordinal(), null, new CanonicalProblem(status));
+      instance = INSTANCES.get(status.ordinal());
+    }
+    return instance;
+  }
+
+  /**
+   * Returns the encoded body, shared by all callers.
+   *
+   * @return UTF-8 encoded JSON of this problem; must not be modified
+   */
+  byte[] json() {
+    return json;
+  }
+
+  @Override
+  Object writeReplace() {
+    return this;
+  }
+
+  private Object readResolve() {
+    return of(problemStatus);
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link ProblemMapper} that maps the first mappable exception in the cause chain, so that
+ * exceptions wrapped in {@link java.util.concurrent.CompletionException}, {@link
+ * java.util.concurrent.ExecutionException} and similar are mapped the same way as unwrapped ones.
+ *
+ * <p>Whether the delegate maps an exception class, or the class is a transparent wrapper to look
+ * through, is remembered per class. Exceptions mapped directly cost a single lookup. Whether a
+ * wrapper is a mapping candidate, however, depends on its causes, so the verdict of this mapper for
+ * a given exception is never remembered by {@link CompositeProblemMapper}.
+ *
+ * <p>Causes are followed up to {@code maxDepth} levels. With suppressed exceptions enabled, causes
+ * and suppressed exceptions are searched breadth-first, causes first. Cycles are detected and end
+ * the search.
+ */
+final class CauseChainProblemMapper implements ProblemMapper {
+
+  private static final int UNRESOLVED = 0;
+  private static final int MAPPED = 1;
+  private static final int TRANSPARENT = 2;
+
+  private final ProblemMapper delegate;
+  private final int maxDepth;
+  private final boolean includeSuppressed;
+
+  private final ClassValue<Verdict> verdicts =
+      new ClassValue<Verdict>() {
+        @Override
+        protected Verdict computeValue(Class<?> type) {
+          return new Verdict();
+        }
+      };
+
+  CauseChainProblemMapper(ProblemMapper delegate, int maxDepth, boolean includeSuppressed) {
+    this.delegate = delegate;
+    this.maxDepth = maxDepth;
+    this.includeSuppressed = includeSuppressed;
+  }
+
+  @Override
+  public ProblemBuilder toProblemBuilder(Throwable t) {
+    return toProblemBuilder(t, null);
+  }
+
+  @Override
+  public ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context) {
+    ProblemBuilder builder = tryMap(t, context);
+    return builder != null ? builder : Problem.builder();
+  }
+
+  @Override
+  public ProblemBuilder tryMap(Throwable t, ProblemContext context) {
+    Throwable mappable = findMappable(t);
+    return mappable != null ? delegate.toProblemBuilder(mappable, context) : null;
+  }
+
+  @Override
+  public boolean isMappingCandidate(Throwable t) {
+    return findMappable(t) != null;
+  }
+
+  private Throwable findMappable(Throwable t) {
+    if (t == null) {
+      return null;
+    }
+    if (isMapped(t)) {
+      return t;
+    }
+    return includeSuppressed ? findInCausesAndSuppressed(t) : findInCauses(t);
+  }
+
+  /**
+   * Walks the cause chain without allocating. A cycle is detected by a second reference moving at
+   * half the speed, which the first one meets if the chain loops.
+   */
+  private Throwable findInCauses(Throwable t) {
+    Throwable current = t;
+    Throwable slow = t;
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      current = current.getCause();
+      if (current == null) {
+        return null;
+      }
+      if (isMapped(current)) {
+        return current;
+      }
+      if ((depth & 1) == 0) {
+        slow = slow.getCause();
+      }
+      if (current == slow) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  private Throwable findInCausesAndSuppressed(Throwable t) {
+    Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    visited.add(t);
+    List<Throwable> level = Collections.singletonList(t);
+    for (int depth = 1; depth <= maxDepth && !level.isEmpty(); depth++) {
+      List<Throwable> next = new ArrayList<>();
+      for (Throwable current : level) {
+        addUnvisited(next, visited, current.getCause());
+        for (Throwable suppressed : current.getSuppressed()) {
+          addUnvisited(next, visited, suppressed);
+        }
+      }
+      for (Throwable candidate : next) {
+        if (isMapped(candidate)) {
+          return candidate;
+        }
+      }
+      level = next;
+    }
+    return null;
+  }
+
+  private static void addUnvisited(List<Throwable> next, Set<Throwable> visited, Throwable t) {
+    if (t != null && visited.add(t)) {
+      next.add(t);
+    }
+  }
+
+  private boolean isMapped(Throwable t) {
+    Verdict verdict = verdicts.get(t.getClass());
+    int value = verdict.value;
+    if (value == UNRESOLVED) {
+      value = delegate.isMappingCandidate(t) ? MAPPED : TRANSPARENT;
+      verdict.value = value;
+    }
+    return value == MAPPED;
+  }
+
+  /** Remembered verdict of a single exception class. */
+  private static final class Verdict {
+
+    private volatile int value = UNRESOLVED;
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link ProblemMapper} that delegates to the first of several mappers, in priority order, that
+ * maps an exception. Delegates are asked through {@link ProblemMapper#tryMap(Throwable,
+ * ProblemContext)}, so a delegate that returns nothing passes the exception on to the next one.
+ *
+ * <p>Delegates that decline an exception class are remembered per class, so later exceptions of the
+ * same class skip them without asking again. Reads of the remembered verdicts are lock-free; if
+ * several threads meet a new class at the same time, each resolves it and stores the same result.
+ *
+ * <p>This relies on delegates deciding whether they are mapping candidates by exception class only,
+ * not by the state of a particular exception instance. Mappers of this library that look into the
+ * instance, such as the one unwrapping causes configured by {@link
+ * ProblemMapperBuilder#unwrapCauses(int)}, are recognized and always asked. Other delegates are
+ * expected to decide by class.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * ProblemMapper mapper =
+ *     new CompositeProblemMapper(ProblemMapper.create(), new ThirdPartyProblemMapper());
+ * }</pre>
+ */
+public final class CompositeProblemMapper implements ProblemMapper {
+
+  private final ProblemMapper[] delegates;
+
+  /** Whether each delegate decides by exception class only, so that its verdict can be cached. */
+  private final boolean[] decidesByClass;
+
+  private final boolean allDecideByClass;
+
+  private final ClassValue<Slot> slots =
+      new ClassValue<Slot>() {
+        @Override
+        protected Slot computeValue(Class<?> type) {
+          return new Slot();
+        }
+      };
+
+  /**
+   * Creates a composite of given mappers.
+   *
+   * @param delegates mappers in priority order
+   */
+  public CompositeProblemMapper(ProblemMapper... delegates) {
+    this(Arrays.asList(delegates));
+  }
+
+  /**
+   * Creates a composite of given mappers.
+   *
+   * @param delegates mappers in priority order
+   */
+  public CompositeProblemMapper(List<? extends ProblemMapper> delegates) {
+    for (ProblemMapper delegate : delegates) {
+      if (delegate == null) {
+        throw new IllegalArgumentException("delegates must not contain null");
+      }
+    }
+    this.delegates = delegates.toArray(new ProblemMapper[0]);
+    this.decidesByClass = new boolean[this.delegates.length];
+    boolean all = true;
+    for (int i = 0; i < this.delegates.length; i++) {
+      decidesByClass[i] = decidesByClass(this.delegates[i]);
+      all &= decidesByClass[i];
+    }
+    this.allDecideByClass = all;
+  }
+
+  private static boolean decidesByClass(ProblemMapper mapper) {
+    if (mapper instanceof CauseChainProblemMapper) {
+      return false;
+    }
+    if (mapper instanceof CompositeProblemMapper) {
+      return ((CompositeProblemMapper) mapper).allDecideByClass;
+    }
+    return true;
+  }
+
+  /**
+   * @return mappers this composite delegates to, in priority order
+   */
+  public List<ProblemMapper> getDelegates() {
+    return Arrays.asList(delegates.clone());
+  }
+
+  @Override
+  public ProblemBuilder toProblemBuilder(Throwable t) {
+    return toProblemBuilder(t, null);
+  }
+
+  /**
+   * Convert {@link Throwable} -> {@link ProblemBuilder} with the first delegate that can map it.
+   *
+   * @param t {@link Throwable} to convert (may be {@code null})
+   * @param context optional {@link ProblemContext} (may be {@code null})
+   * @return a {@link ProblemBuilder} instance, empty if no delegate can map {@code t}
+   * @throws ProblemMappingException when something goes wrong while building the Problem
+   */
+  @Override
+  public ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context) {
+    ProblemBuilder builder = tryMap(t, context);
+    return builder != null ? builder : Problem.builder();
+  }
+
+  /**
+   * Convert {@link Throwable} -> {@link ProblemBuilder} with the first delegate that can map it, or
+   * return {@code null} if there is none.
+   *
+   * @param t {@link Throwable} to convert (may be {@code null})
+   * @param context optional {@link ProblemContext} (may be {@code null})
+   * @return a {@link ProblemBuilder} instance, or {@code null} if no delegate can map {@code t}
+   * @throws ProblemMappingException when something goes wrong while building the Problem
+   */
+  @Override
+  public ProblemBuilder tryMap(Throwable t, ProblemContext context) {
+    if (t == null) {
+      return null;
+    }
+    boolean[] declined = declined(t);
+    for (int i = 0; i < delegates.length; i++) {
+      if (!declined[i]) {
+        ProblemBuilder builder = delegates[i].tryMap(t, context);
+        if (builder != null) {
+          return builder;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks whether any of delegates can map the given exception.
+   *
+   * @param t {@link Throwable} to check (may be {@code null})
+   * @return {@code true} if any delegate is able to map the exception, {@code false} otherwise
+   */
+  @Override
+  public boolean isMappingCandidate(Throwable t) {
+    if (t == null) {
+      return false;
+    }
+    boolean[] declined = declined(t);
+    for (int i = 0; i < delegates.length; i++) {
+      if (!declined[i] && delegates[i].isMappingCandidate(t)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns which delegates are known to decline the class of given exception. Only delegates
+   * deciding by class are asked, and only once per class.
+   */
+  private boolean[] declined(Throwable t) {
+    Slot slot = slots.get(t.getClass());
+    boolean[] declined = slot.declined;
+    if (declined == null) {
+      declined = new boolean[delegates.length];
+      for (int i = 0; i < delegates.length; i++) {
+        declined[i] = decidesByClass[i] && !delegates[i].isMappingCandidate(t);
+      }
+      slot.declined = declined;
+    }
+    return declined;
+  }
+
+  /** Remembered verdicts of delegates for a single exception class. */
+  private static final class Slot {
+
+    private volatile boolean[] declined;
+  }
+}
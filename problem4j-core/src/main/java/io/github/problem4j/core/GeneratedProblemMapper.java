@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+/**
+ * Base class for {@link ProblemMapper} implementations generated at compile time by {@code
+ * problem4j-core-processor} for exceptions annotated with {@link ProblemMapping}.
+ *
+ * <p>A generated mapper handles exactly one exception class (not its subclasses), reads fields
+ * directly and has its templates concatenated ahead of time, so no reflection is involved at
+ * runtime. Generated mappers are registered in {@code
+ * META-INF/services/io.github.problem4j.core.GeneratedProblemMapper} and picked up by {@link
+ * ProblemMapper#create()} through {@link java.util.ServiceLoader}. Exceptions without a generated
+ * mapper fall back to reflection-based {@link AbstractProblemMapper}.
+ *
+ * <p>This class is not intended to be extended manually.
+ *
+ * @param <T> the exception class handled by this mapper
+ */
+public abstract class GeneratedProblemMapper<T extends Throwable> implements ProblemMapper {
+
+  private final Class<T> mappedClass;
+
+  /**
+   * Creates a mapper for the given exception class.
+   *
+   * @param mappedClass the exception class handled by this mapper
+   */
+  protected GeneratedProblemMapper(Class<T> mappedClass) {
+    this.mappedClass = mappedClass;
+  }
+
+  /**
+   * @return the exception class handled by this mapper
+   */
+  public Class<T> getMappedClass() {
+    return mappedClass;
+  }
+
+  @Override
+  public ProblemBuilder toProblemBuilder(Throwable t) {
+    return toProblemBuilder(t, null);
+  }
+
+  /**
+   * Convert {@link Throwable} -> {@link ProblemBuilder} using the generated mapping code.
+   *
+   * @param t {@link Throwable} to convert (may be {@code null})
+   * @param context optional {@link ProblemContext} (may be {@code null})
+   * @return a {@link ProblemBuilder} instance, empty if {@code t} is not an instance of exactly
+   *     {@link #getMappedClass()}
+   * @throws ProblemMappingException when something goes wrong while building the Problem
+   */
+  @Override
+  public ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context) {
+    ProblemBuilder builder = tryMap(t, context);
+    return builder != null ? builder : Problem.builder();
+  }
+
+  /**
+   * Convert {@link Throwable} -> {@link ProblemBuilder} using the generated mapping code, or return
+   * {@code null} if {@code t} is not an instance of exactly {@link #getMappedClass()}.
+   *
+   * @param t {@link Throwable} to convert (may be {@code null})
+   * @param context optional {@link ProblemContext} (may be {@code null})
+   * @return a {@link ProblemBuilder} instance, or {@code null} if not a mapping candidate
+   * @throws ProblemMappingException when something goes wrong while building the Problem
+   */
+  @Override
+  public ProblemBuilder tryMap(Throwable t, ProblemContext context) {
+    if (!isMappingCandidate(t)) {
+      return null;
+    }
+    ProblemBuilder builder = Problem.builder();
+    try {
+      apply(builder, mappedClass.cast(t), context);
+      return builder;
+    } catch (ProblemMappingException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      throw new ProblemMappingException("Unexpected failure while processing @ProblemMapping", e);
+    }
+  }
+
+  /**
+   * Checks whether the class of given exception is exactly {@link #getMappedClass()}.
+   *
+   * @param t {@link Throwable} to check (may be {@code null})
+   * @return {@code true} if this mapper handles the exception, {@code false} otherwise
+   */
+  @Override
+  public boolean isMappingCandidate(Throwable t) {
+    return t != null && t.getClass() == mappedClass;
+  }
+
+  /**
+   * Applies the generated mapping on the builder.
+   *
+   * @param builder the {@link ProblemBuilder} to populate
+   * @param t the exception to extract values from
+   * @param context the problem context for additional data (may be {@code null})
+   */
+  protected abstract void apply(ProblemBuilder builder, T t, ProblemContext context);
+
+  /**
+   * Converts a placeholder value to string, resolving {@code null} to an empty string.
+   *
+   * @param value the placeholder value
+   * @return string representation of the value, or an empty string for {@code null}
+   */
+  protected static String valueOf(Object value) {
+    return value != null ? String.valueOf(value) : "";
+  }
+
+  /**
+   * Resolves a {@code {context.*}} placeholder.
+   *
+   * @param context the problem context (may be {@code null})
+   * @param key the context key
+   * @return the context value, or an empty string if missing
+   */
+  protected static String contextValue(ProblemContext context, String key) {
+    if (context == null || !context.containsKey(key)) {
+      return "";
+    }
+    return valueOf(context.get(key));
+  }
+
+  /**
+   * Applies the interpolated type if non-empty; ignores invalid URIs.
+   *
+   * @param builder the {@link ProblemBuilder} to add the type to
+   * @param type the interpolated type
+   */
+  protected static void applyType(ProblemBuilder builder, String type) {
+    if (!type.isEmpty()) {
+      try {
+        builder.type(type);
+      } catch (IllegalArgumentException e) {
+        // ignored - if type is invalid let not fail
+      }
+    }
+  }
+
+  /**
+   * Applies the interpolated title if non-empty.
+   *
+   * @param builder the {@link ProblemBuilder} to add the title to
+   * @param title the interpolated title
+   */
+  protected static void applyTitle(ProblemBuilder builder, String title) {
+    if (!title.isEmpty()) {
+      builder.title(title);
+    }
+  }
+
+  /**
+   * Applies the interpolated detail if non-empty.
+   *
+   * @param builder the {@link ProblemBuilder} to add the detail to
+   * @param detail the interpolated detail
+   */
+  protected static void applyDetail(ProblemBuilder builder, String detail) {
+    if (!detail.isEmpty()) {
+      builder.detail(detail);
+    }
+  }
+
+  /**
+   * Applies the interpolated instance if non-empty; ignores invalid URIs.
+   *
+   * @param builder the {@link ProblemBuilder} to add the instance to
+   * @param instance the interpolated instance
+   */
+  protected static void applyInstance(ProblemBuilder builder, String instance) {
+    if (!instance.isEmpty()) {
+      try {
+        builder.instance(instance);
+      } catch (IllegalArgumentException e) {
+        // ignored - if instance is invalid let not fail
+      }
+    }
+  }
+
+  /**
+   * Adds an extension unless its value is {@code null} or an empty string.
+   *
+   * @param builder the {@link ProblemBuilder} to add the extension to
+   * @param name the extension name
+   * @param value the extension value
+   */
+  protected static void applyExtension(ProblemBuilder builder, String name, Object value) {
+    if (value != null && !(value instanceof String && ((String) value).isEmpty())) {
+      builder.extension(name, value);
+    }
+  }
+}
@@ -14,8 +14,9 @@
  */
 package io.github.problem4j.core;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 
 /**
  * Utility class for escaping strings for safe inclusion in JSON.
@@ -25,19 +26,7 @@
  */
 final class JsonEscape {
 
-  /** Mapping of characters to their JSON escape sequences. */
-  private static final Map<Character, String> REPLACEMENTS = new HashMap<>();
-
-  static {
-    REPLACEMENTS.put('"', "\\\"");
-    REPLACEMENTS.put('\\', "\\\\");
-    REPLACEMENTS.put('\b', "\\b");
-    REPLACEMENTS.put('\f', "\\f");
-    REPLACEMENTS.put('\n', "\\n");
-    REPLACEMENTS.put('\r', "\\r");
-    REPLACEMENTS.put('\t', "\\t");
-    REPLACEMENTS.put('/', "\\/");
-  }
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
   /** Private constructor to prevent instantiation. */
   private JsonEscape() {}
@@ -52,39 +41,94 @@ private JsonEscape() {}
    * @return the escaped string
    */
   static String escape(String value) {
-    StringBuilder result = new StringBuilder();
+    StringBuilder result = new StringBuilder(value.length() + 16);
+    try {
+      escape(value, result);
+    } catch (IOException e) {
+      // StringBuilder never throws
+      throw new UncheckedIOException(e);
+    }
+    return result.toString();
+  }
 
-    for (char character : value.toCharArray()) {
-      if (shouldBeReplaced(character)) {
-        replace(result, character);
-      } else if (shouldBeHexed(character)) {
-        hex(result, character);
+  /**
+   * Escapes the given characters for inclusion in JSON, appending them to {@code out}.
+   *
+   * <p>Runs of characters that need no escaping are copied straight into a {@link StringBuilder},
+   * or written with {@link Writer#write(String, int, int)} to a {@link Writer}, and appended as
+   * subsequences to other destinations, so no intermediate strings are created for them.
+   *
+   * @param value the characters to escape
+   * @param out the destination to append to
+   * @throws IOException if appending to {@code out} fails
+   */
+  static void escape(CharSequence value, Appendable out) throws IOException {
+    int length = value.length();
+    int start = 0;
+    for (int i = 0; i < length; i++) {
+      char character = value.charAt(i);
+      String replacement = replacement(character);
+      if (replacement == null && !shouldBeHexed(character)) {
+        continue;
+      }
+      if (i > start) {
+        appendRun(value, start, i, out);
+      }
+      if (replacement != null) {
+        out.append(replacement);
       } else {
-        result.append(character);
+        hex(out, character);
       }
+      start = i + 1;
+    }
+    if (start < length) {
+      appendRun(value, start, length, out);
     }
-
-    return result.toString();
   }
 
   /**
-   * Determines if the character should be replaced using a predefined escape sequence.
-   *
-   * @param character the character to check
-   * @return true if the character has a predefined replacement
+   * Appends characters from {@code start} to {@code end} of {@code value}. {@link
+   * Writer#append(CharSequence, int, int)} creates a string of the subsequence, so writers are
+   * written to directly.
    */
-  private static boolean shouldBeReplaced(char character) {
-    return REPLACEMENTS.containsKey(character);
+  private static void appendRun(CharSequence value, int start, int end, Appendable out)
+      throws IOException {
+    if (out instanceof StringBuilder) {
+      ((StringBuilder) out).append(value, start, end);
+    } else if (out instanceof Writer && value instanceof String) {
+      ((Writer) out).write((String) value, start, end - start);
+    } else {
+      out.append(value, start, end);
+    }
   }
 
   /**
-   * Appends the JSON escape sequence for a character that has a predefined replacement.
+   * Returns the predefined escape sequence of a character.
    *
-   * @param result the StringBuilder to append to
-   * @param character the character to escape
+   * @param character the character to check
+   * @return the escape sequence, or {@code null} if the character has no predefined replacement
    */
-  private static void replace(StringBuilder result, char character) {
-    result.append(REPLACEMENTS.get(character));
+  private static String replacement(char character) {
+    switch (character) {
+      case '"':
+        return "\\\"";
+      case '\\':
+        return "\\\\";
+      case '\b':
+        return "\\b";
+      case '\f':
+        return "\\f";
+      case '\n':
+        return "\\n";
+      case '\r':
+        return "\\r";
+      case '\t':
+        return "\\t";
+      case '/':
+        return "\\/";
+      default:
+        return null;
+    }
   }
 
   /**
@@ -108,15 +152,16 @@ private static boolean shouldBeHexed(char character) {
    * uppercase hexadecimal representation of the character code, padded with leading zeros to four
    * digits.
    *
-   * @param result the StringBuilder to append the escape sequence to
+   * @param out the destination to append the escape sequence to
    * @param character the character to be escaped
+   * @throws IOException if appending to {@code out} fails
    */
-  private static void hex(StringBuilder result, char character) {
-    String hexedCharacter = Integer.toHexString(character).toUpperCase();
-    result.append("\\u");
-    for (int i = 0; i < 4 - hexedCharacter.length(); i++) {
-      result.append('0');
-    }
-    result.append(hexedCharacter);
+  private static void hex(Appendable out, char character) throws IOException {
+    out.append('\\')
+        .append('u')
+        .append(HEX_DIGITS[(character >> 12) & 0xF])
+        .append(HEX_DIGITS[(character >> 8) & 0xF])
+        .append(HEX_DIGITS[(character >> 4) & 0xF])
+        .append(HEX_DIGITS[character & 0xF]);
   }
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Pre-parsed {@link ProblemMapping} template string.
+ *
+ * <p>Templates are parsed once into an array of literal and placeholder segments. Rendering
+ * appends the segments into a pre-sized buffer, without any regular expression matching. Templates
+ * without placeholders are rendered as the constant string itself.
+ *
+ * <p>Placeholder syntax is the same as matched by {@link AbstractProblemMapper#PLACEHOLDER}, so
+ * unclosed or empty braces are kept as literal text. A placeholder may end with a format specifier
+ * after a colon, such as {@code {amount:%.2f}}, compiled into a {@link PlaceholderFormat} together
+ * with the template. Text after the colon that is not a valid specifier remains part of the key.
+ */
+final class MappingTemplate {
+
+  /** Template of an empty string. */
+  static final MappingTemplate EMPTY = new MappingTemplate("", new Segment[0]);
+
+  /** Expected length of a single resolved placeholder, used to pre-size the render buffer. */
+  private static final int PLACEHOLDER_LENGTH_HINT = 16;
+
+  private final String template;
+  private final Segment[] segments;
+  private final int capacityHint;
+
+  private MappingTemplate(String template, Segment[] segments) {
+    this.template = template;
+    this.segments = segments;
+
+    int capacity = 0;
+    for (Segment segment : segments) {
+      capacity += segment.lengthHint();
+    }
+    this.capacityHint = capacity;
+  }
+
+  /**
+   * Parses the template string into segments.
+   *
+   * @param template the template string, must not be {@code null}
+   * @return compiled template
+   */
+  static MappingTemplate compile(String template) {
+    if (template.isEmpty()) {
+      return EMPTY;
+    }
+
+    List<Segment> segments = new ArrayList<>();
+    int literalStart = 0;
+    int i = 0;
+    while (i < template.length()) {
+      if (template.charAt(i) == '{') {
+        int close = template.indexOf('}', i + 1);
+        if (close < 0) {
+          break;
+        }
+        if (close > i + 1) {
+          if (i > literalStart) {
+            segments.add(new Literal(template.substring(literalStart, i)));
+          }
+          segments.add(placeholder(template.substring(i + 1, close)));
+          i = close + 1;
+          literalStart = i;
+          continue;
+        }
+      }
+      i++;
+    }
+
+    if (segments.isEmpty()) {
+      return new MappingTemplate(template, new Segment[0]);
+    }
+    if (literalStart < template.length()) {
+      segments.add(new Literal(template.substring(literalStart)));
+    }
+    return new MappingTemplate(template, segments.toArray(new Segment[0]));
+  }
+
+  private static Segment placeholder(String key) {
+    PlaceholderFormat format = null;
+    int separator = key.indexOf(':');
+    if (separator > 0) {
+      format = PlaceholderFormat.compile(key.substring(separator + 1));
+      if (format != null) {
+        key = key.substring(0, separator);
+      }
+    }
+    if (AbstractProblemMapper.MESSAGE_LABEL.equals(key)) {
+      return format == null ? MessagePlaceholder.INSTANCE : new MessagePlaceholder(format);
+    }
+    if (key.startsWith(AbstractProblemMapper.CONTEXT_LABEL_PREFIX)) {
+      return new ContextPlaceholder(
+          key.substring(AbstractProblemMapper.CONTEXT_LABEL_PREFIX.length()), format);
+    }
+    return new FieldPlaceholder(key, format);
+  }
+
+  /**
+   * @return {@code true} if the template has no placeholders
+   */
+  boolean isConstant() {
+    return segments.length == 0;
+  }
+
+  /**
+   * @return the original template string
+   */
+  String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Adds names of all field placeholders of this template to given collection.
+   *
+   * @param names the collection to add names to
+   */
+  void collectFieldNames(Collection<String> names) {
+    for (Segment segment : segments) {
+      if (segment instanceof FieldPlaceholder) {
+        names.add(((FieldPlaceholder) segment).name);
+      }
+    }
+  }
+
+  /**
+   * Renders the template for given throwable.
+   *
+   * @param t the throwable to extract values from
+   * @param context the problem context for additional data (may be {@code null})
+   * @param mapper the mapper used to resolve field placeholders
+   * @return rendered string, or the template itself if it has no placeholders
+   */
+  String render(Throwable t, ProblemContext context, AbstractProblemMapper mapper) {
+    if (segments.length == 0) {
+      return template;
+    }
+    StringBuilder result = new StringBuilder(capacityHint);
+    for (Segment segment : segments) {
+      segment.appendTo(result, t, context, mapper);
+    }
+    return result.toString();
+  }
+
+  private abstract static class Segment {
+
+    abstract int lengthHint();
+
+    abstract void appendTo(
+        StringBuilder result, Throwable t, ProblemContext context, AbstractProblemMapper mapper);
+  }
+
+  private static final class Literal extends Segment {
+
+    private final String text;
+
+    private Literal(String text) {
+      this.text = text;
+    }
+
+    @Override
+    int lengthHint() {
+      return text.length();
+    }
+
+    @Override
+    void appendTo(
+        StringBuilder result, Throwable t, ProblemContext context, AbstractProblemMapper mapper) {
+      result.append(text);
+    }
+  }
+
+  /** Placeholder resolved to a value, optionally rendered with a {@link PlaceholderFormat}. */
+  private abstract static class Placeholder extends Segment {
+
+    private final PlaceholderFormat format;
+
+    private Placeholder(PlaceholderFormat format) {
+      this.format = format;
+    }
+
+    @Override
+    int lengthHint() {
+      return PLACEHOLDER_LENGTH_HINT;
+    }
+
+    @Override
+    void appendTo(
+        StringBuilder result, Throwable t, ProblemContext context, AbstractProblemMapper mapper) {
+      Object value = resolve(t, context, mapper);
+      if (value == null) {
+        return;
+      }
+      if (format != null) {
+        format.appendTo(result, value);
+      } else {
+        result.append(value);
+      }
+    }
+
+    abstract Object resolve(Throwable t, ProblemContext context, AbstractProblemMapper mapper);
+  }
+
+  private static final class MessagePlaceholder extends Placeholder {
+
+    private static final MessagePlaceholder INSTANCE = new MessagePlaceholder(null);
+
+    private MessagePlaceholder(PlaceholderFormat format) {
+      super(format);
+    }
+
+    @Override
+    Object resolve(Throwable t, ProblemContext context, AbstractProblemMapper mapper) {
+      return t.getMessage();
+    }
+  }
+
+  private static final class ContextPlaceholder extends Placeholder {
+
+    private final String key;
+
+    private ContextPlaceholder(String key, PlaceholderFormat format) {
+      super(format);
+      this.key = key;
+    }
+
+    /**
+     * Resolves a key present with {@code null} value to {@code "null"}, as earlier versions did.
+     */
+    @Override
+    Object resolve(Throwable t, ProblemContext context, AbstractProblemMapper mapper) {
+      return context != null && context.containsKey(key) ? String.valueOf(context.get(key)) : null;
+    }
+  }
+
+  private static final class FieldPlaceholder extends Placeholder {
+
+    private final String name;
+
+    private FieldPlaceholder(String name, PlaceholderFormat format) {
+      super(format);
+      this.name = name;
+    }
+
+    @Override
+    Object resolve(Throwable t, ProblemContext context, AbstractProblemMapper mapper) {
+      return mapper.resolvePlaceholderSource(t, name);
+    }
+  }
+}
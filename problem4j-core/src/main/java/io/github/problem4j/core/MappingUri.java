@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.net.URI;
+
+/**
+ * {@link MappingTemplate} of a {@code type} or {@code instance} URI.
+ *
+ * <p>Templates without placeholders are parsed into a {@link URI} once, when the mapping plan is
+ * compiled, and the same instance is reused for every mapped exception. Constant templates that are
+ * not valid URIs are remembered as such, so they are skipped without creating and catching an
+ * exception on each call.
+ */
+final class MappingUri {
+
+  /** URI template of an empty string. */
+  static final MappingUri EMPTY = new MappingUri(MappingTemplate.EMPTY, null);
+
+  private final MappingTemplate template;
+  private final URI constant;
+
+  private MappingUri(MappingTemplate template, URI constant) {
+    this.template = template;
+    this.constant = constant;
+  }
+
+  /**
+   * Wraps the template, parsing it eagerly if it has no placeholders.
+   *
+   * @param template the compiled template, must not be {@code null}
+   * @return compiled URI template
+   */
+  static MappingUri compile(MappingTemplate template) {
+    if (template.getTemplate().isEmpty()) {
+      return EMPTY;
+    }
+    if (template.isConstant()) {
+      return new MappingUri(template, parse(template.getTemplate()));
+    }
+    return new MappingUri(template, null);
+  }
+
+  /**
+   * @return {@code true} if the template has no placeholders and is not a valid URI
+   */
+  boolean isInvalidConstant() {
+    return template.isConstant() && !template.getTemplate().isEmpty() && constant == null;
+  }
+
+  /**
+   * @return the compiled template
+   */
+  MappingTemplate getTemplate() {
+    return template;
+  }
+
+  /**
+   * Resolves the URI for given exception.
+   *
+   * @param t the exception to resolve placeholders against
+   * @param context the problem context (may be {@code null})
+   * @param mapper the mapper used to resolve field placeholders
+   * @return resolved URI, or {@code null} if the template is empty or does not yield a valid URI
+   */
+  URI resolve(Throwable t, ProblemContext context, AbstractProblemMapper mapper) {
+    if (template.isConstant()) {
+      return constant;
+    }
+    String value = template.render(t, context, mapper);
+    return !value.isEmpty() ? parse(value) : null;
+  }
+
+  private static URI parse(String value) {
+    try {
+      return URI.create(value);
+    } catch (IllegalArgumentException e) {
+      // ignored - if URI is invalid let not fail
+      return null;
+    }
+  }
+}
@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Format specifier of a placeholder, such as {@code %.2f} in {@code {amount:%.2f}} or {@code ms} in
+ * {@code {elapsed:ms}}, parsed once when the template is compiled.
+ *
+ * <p>Supported specifiers:
+ *
+ * <ul>
+ *   <li>{@code %[0][width][.precision]conversion} with conversion {@code d}, {@code x}, {@code X},
+ *       {@code f} or {@code s} - rendered without {@link java.util.Formatter}, and without any
+ *       intermediate strings for {@code int}, {@code long}, {@code short} and {@code byte} values,
+ *   <li>any other {@link java.util.Formatter} specifier with a single argument, such as {@code
+ *       %,d} - rendered with {@link String#format(Locale, String, Object...)},
+ *   <li>{@code ns}, {@code us}, {@code ms}, {@code s}, {@code m}, {@code h} - a {@link Duration}
+ *       converted to a whole number of given units, truncated towards zero and saturated at {@code
+ *       long} bounds.
+ * </ul>
+ *
+ * <p>All values are formatted with {@link Locale#ROOT}, so that rendered problems do not depend on
+ * the default locale of the JVM. Values that don't fit the specifier, such as a string for {@code
+ * %d}, are rendered as if there was no specifier.
+ */
+abstract class PlaceholderFormat {
+
+  /**
+   * Parses the specifier.
+   *
+   * @param spec the specifier, text after the first {@code :} of a placeholder
+   * @return the parsed format, or {@code null} if {@code spec} is not a supported specifier
+   */
+  static PlaceholderFormat compile(String spec) {
+    if (spec.startsWith("%")) {
+      PlaceholderFormat format = NumberFormat.parse(spec);
+      return format != null ? format : GenericFormat.parse(spec);
+    }
+    TimeUnit unit = timeUnit(spec);
+    return unit != null ? new DurationFormat(unit) : null;
+  }
+
+  private static TimeUnit timeUnit(String spec) {
+    switch (spec) {
+      case "ns":
+        return TimeUnit.NANOSECONDS;
+      case "us":
+        return TimeUnit.MICROSECONDS;
+      case "ms":
+        return TimeUnit.MILLISECONDS;
+      case "s":
+        return TimeUnit.SECONDS;
+      case "m":
+        return TimeUnit.MINUTES;
+      case "h":
+        return TimeUnit.HOURS;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Appends formatted value.
+   *
+   * @param result the buffer to append to
+   * @param value the value to format, never {@code null}
+   */
+  abstract void appendTo(StringBuilder result, Object value);
+
+  private static boolean isIntegral(Object value) {
+    return value instanceof Integer
+        || value instanceof Long
+        || value instanceof Short
+        || value instanceof Byte;
+  }
+
+  private static void pad(StringBuilder result, char padding, int count) {
+    for (int i = 0; i < count; i++) {
+      result.append(padding);
+    }
+  }
+
+  /** Number of characters of decimal representation of given value. */
+  private static int decimalLength(long value) {
+    if (value == Long.MIN_VALUE) {
+      return 20;
+    }
+    int length = value < 0 ? 2 : 1;
+    long remaining = Math.abs(value);
+    while (remaining >= 10) {
+      remaining /= 10;
+      length++;
+    }
+    return length;
+  }
+
+  /** {@code %[0][width][.precision](d|x|X|f|s)}, rendered without {@link java.util.Formatter}. */
+  private static final class NumberFormat extends PlaceholderFormat {
+
+    private final String spec;
+    private final boolean zeroPadded;
+    private final int width;
+    private final int precision;
+    private final char conversion;
+
+    private NumberFormat(
+        String spec, boolean zeroPadded, int width, int precision, char conversion) {
+      this.spec = spec;
+      this.zeroPadded = zeroPadded;
+      this.width = width;
+      this.precision = precision;
+      this.conversion = conversion;
+    }
+
+    private static NumberFormat parse(String spec) {
+      int i = 1;
+      boolean zeroPadded = i < spec.length() && spec.charAt(i) == '0';
+      if (zeroPadded) {
+        i++;
+      }
+      int width = 0;
+      while (i < spec.length() && Character.isDigit(spec.charAt(i))) {
+        width = width * 10 + (spec.charAt(i) - '0');
+        i++;
+      }
+      int precision = -1;
+      if (i < spec.length() && spec.charAt(i) == '.') {
+        i++;
+        int start = i;
+        precision = 0;
+        while (i < spec.length() && Character.isDigit(spec.charAt(i))) {
+          precision = precision * 10 + (spec.charAt(i) - '0');
+          i++;
+        }
+        if (i == start) {
+          return null;
+        }
+      }
+      if (i != spec.length() - 1 || width > 1000 || precision > 1000) {
+        return null;
+      }
+      char conversion = spec.charAt(i);
+      switch (conversion) {
+        case 'd':
+        case 'x':
+        case 'X':
+          if (precision >= 0) {
+            return null;
+          }
+          break;
+        case 'f':
+          break;
+        case 's':
+          if (zeroPadded) {
+            return null;
+          }
+          break;
+        default:
+          return null;
+      }
+      if (zeroPadded && width == 0) {
+        return null;
+      }
+      return new NumberFormat(spec, zeroPadded, width, precision, conversion);
+    }
+
+    @Override
+    void appendTo(StringBuilder result, Object value) {
+      switch (conversion) {
+        case 'd':
+          if (isIntegral(value)) {
+            appendDecimal(result, ((Number) value).longValue());
+            return;
+          }
+          break;
+        case 'x':
+        case 'X':
+          if (isIntegral(value)) {
+            appendHex(result, value);
+            return;
+          }
+          break;
+        case 'f':
+          if (isIntegral(value)) {
+            appendFixed(result, ((Number) value).longValue());
+            return;
+          }
+          if (value instanceof Double || value instanceof Float || value instanceof BigDecimal) {
+            appendFixed(result, value);
+            return;
+          }
+          break;
+        default:
+          appendString(result, String.valueOf(value));
+          return;
+      }
+      GenericFormat.format(result, spec, value);
+    }
+
+    private void appendDecimal(StringBuilder result, long value) {
+      int length = decimalLength(value);
+      if (length >= width) {
+        result.append(value);
+      } else if (!zeroPadded) {
+        pad(result, ' ', width - length);
+        result.append(value);
+      } else if (value >= 0) {
+        pad(result, '0', width - length);
+        result.append(value);
+      } else {
+        GenericFormat.format(result, spec, value);
+      }
+    }
+
+    private void appendHex(StringBuilder result, Object value) {
+      String hex;
+      if (value instanceof Long) {
+        hex = Long.toHexString((Long) value);
+      } else if (value instanceof Integer) {
+        hex = Integer.toHexString((Integer) value);
+      } else if (value instanceof Short) {
+        hex = Integer.toHexString(((Short) value) & 0xFFFF);
+      } else {
+        hex = Integer.toHexString(((Byte) value) & 0xFF);
+      }
+      pad(result, zeroPadded ? '0' : ' ', width - hex.length());
+      result.append(conversion == 'X' ? hex.toUpperCase(Locale.ROOT) : hex);
+    }
+
+    private void appendFixed(StringBuilder result, long value) {
+      int precision = this.precision >= 0 ? this.precision : 6;
+      int length = decimalLength(value) + (precision > 0 ? precision + 1 : 0);
+      if (length < width) {
+        if (zeroPadded && value < 0) {
+          GenericFormat.format(result, spec, value);
+          return;
+        }
+        pad(result, zeroPadded ? '0' : ' ', width - length);
+      }
+      result.append(value);
+      if (precision > 0) {
+        result.append('.');
+        pad(result, '0', precision);
+      }
+    }
+
+    private void appendFixed(StringBuilder result, Object value) {
+      BigDecimal decimal;
+      boolean negative;
+      if (value instanceof Double) {
+        double number = (Double) value;
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+          GenericFormat.format(result, spec, value);
+          return;
+        }
+        decimal = BigDecimal.valueOf(number);
+        negative = Double.doubleToRawLongBits(number) < 0;
+      } else if (value instanceof Float) {
+        float number = (Float) value;
+        if (Float.isNaN(number) || Float.isInfinite(number)) {
+          GenericFormat.format(result, spec, value);
+          return;
+        }
+        // widened like java.util.Formatter does, so 0.1f renders as 0.1000000015 with %.10f
+        decimal = BigDecimal.valueOf((double) number);
+        negative = Float.floatToRawIntBits(number) < 0;
+      } else {
+        decimal = (BigDecimal) value;
+        negative = decimal.signum() < 0;
+      }
+      // rounded without sign, so that negative values rounded to zero keep it, as in Formatter
+      int scale = precision >= 0 ? precision : 6;
+      String text = decimal.abs().setScale(scale, RoundingMode.HALF_UP).toPlainString();
+      if (negative) {
+        if (text.length() < width - 1 && zeroPadded) {
+          GenericFormat.format(result, spec, value);
+          return;
+        }
+        pad(result, ' ', width - text.length() - 1);
+        result.append('-');
+      } else {
+        pad(result, zeroPadded ? '0' : ' ', width - text.length());
+      }
+      result.append(text);
+    }
+
+    private void appendString(StringBuilder result, String value) {
+      if (precision >= 0 && precision < value.length()) {
+        value = value.substring(0, precision);
+      }
+      pad(result, ' ', width - value.length());
+      result.append(value);
+    }
+  }
+
+  /** Any other single-argument {@link java.util.Formatter} specifier. */
+  private static final class GenericFormat extends PlaceholderFormat {
+
+    private final String spec;
+
+    private GenericFormat(String spec) {
+      this.spec = spec;
+    }
+
+    /** Validates the specifier by formatting {@code null}, accepted by every conversion. */
+    private static GenericFormat parse(String spec) {
+      try {
+        String.format(Locale.ROOT, spec, (Object) null);
+        return new GenericFormat(spec);
+      } catch (IllegalFormatException e) {
+        return null;
+      }
+    }
+
+    private static void format(StringBuilder result, String spec, Object value) {
+      try {
+        result.append(String.format(Locale.ROOT, spec, value));
+      } catch (IllegalFormatException e) {
+        result.append(value);
+      }
+    }
+
+    @Override
+    void appendTo(StringBuilder result, Object value) {
+      format(result, spec, value);
+    }
+  }
+
+  /** Whole number of units of a {@link Duration}. */
+  private static final class DurationFormat extends PlaceholderFormat {
+
+    private final TimeUnit unit;
+
+    private DurationFormat(TimeUnit unit) {
+      this.unit = unit;
+    }
+
+    @Override
+    void appendTo(StringBuilder result, Object value) {
+      if (value instanceof Duration) {
+        result.append(toUnit((Duration) value));
+      } else {
+        result.append(value);
+      }
+    }
+
+    /**
+     * Converts from seconds and nanoseconds, truncating towards zero and saturating at {@code Long}
+     * bounds for durations with more nanoseconds or microseconds than a {@code long} can hold.
+     */
+    private long toUnit(Duration duration) {
+      switch (unit) {
+        case NANOSECONDS:
+          return toSubsecondUnit(duration, 1_000_000_000L, 1L);
+        case MICROSECONDS:
+          return toSubsecondUnit(duration, 1_000_000L, 1_000L);
+        case MILLISECONDS:
+          return toSubsecondUnit(duration, 1_000L, 1_000_000L);
+        case SECONDS:
+          return toSubsecondUnit(duration, 1L, 1_000_000_000L);
+        case MINUTES:
+          return toSubsecondUnit(duration, 1L, 1_000_000_000L) / 60;
+        default:
+          return toSubsecondUnit(duration, 1L, 1_000_000_000L) / 3600;
+      }
+    }
+
+    private static long toSubsecondUnit(Duration duration, long perSecond, long nanosPerUnit) {
+      long seconds = duration.getSeconds();
+      long nanos = duration.getNano();
+      if (seconds < 0 && nanos > 0) {
+        // truncates towards zero, as Duration#toNanos() and Duration#toMillis() do
+        seconds++;
+        nanos -= 1_000_000_000L;
+      }
+      long units = nanos / nanosPerUnit;
+      if (seconds > Long.MAX_VALUE / perSecond) {
+        return Long.MAX_VALUE;
+      }
+      if (seconds < Long.MIN_VALUE / perSecond) {
+        return Long.MIN_VALUE;
+      }
+      long result = seconds * perSecond;
+      long sum = result + units;
+      if (((result ^ sum) & (units ^ sum)) < 0) {
+        return units > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+      }
+      return sum;
+    }
+  }
+}
@@ -14,6 +14,7 @@
  */
 package io.github.problem4j.core;
 
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Map;
 import java.util.Set;
@@ -52,6 +53,24 @@ static ProblemBuilder builder() {
     return new ProblemBuilderImpl();
   }
 
+  /**
+   * Returns the shared problem of given status, with {@link #BLANK_TYPE} type, the status title and
+   * no other members. Equal to {@code Problem.builder().status(status).title(status.getTitle())
+   * .build()}, but created once per {@link ProblemStatus} constant, so it can be returned on hot
+   * paths (such as load shedding) without any allocation. Its encoded body is available through
+   * {@link ProblemStatus#writeProblemJson(OutputStream)}.
+   *
+   * @param status the status of the problem, must not be {@code null}
+   * @return the shared immutable {@link Problem} instance
+   * @throws IllegalArgumentException if the {@code status} is {@code null}
+   */
+  static Problem of(ProblemStatus status) {
+    if (status == null) {
+      throw new IllegalArgumentException("status cannot be null");
+    }
+    return CanonicalProblem.of(status);
+  }
+
   /**
    * Creates a named extension for use in a {@link Problem}.
    *
@@ -133,6 +152,38 @@ static Extension extension(String key, Object value) {
    */
   ProblemBuilder toBuilder();
 
+  /**
+   * Derives a problem with one extension added, or replaced if already present, and all other
+   * members unchanged.
+   *
+   * <p>The default implementation goes through {@link #toBuilder()}. {@link AbstractProblem}
+   * shares the extensions of this problem instead of copying them, so enriching a problem (e.g.
+   * with a trace id) doesn't depend on the number of its extensions.
+   *
+   * @param name the extension key; this problem is returned if {@code null}
+   * @param value the extension value; this problem is returned if {@code null}
+   * @return a new {@link Problem} with the extension
+   */
+  default Problem withExtension(String name, Object value) {
+    if (name == null || value == null) {
+      return this;
+    }
+    return toBuilder().extension(name, value).build();
+  }
+
+  /**
+   * Derives a problem with given instance and all other members unchanged.
+   *
+   * <p>The default implementation goes through {@link #toBuilder()}. {@link AbstractProblem}
+   * shares the extensions of this problem instead of copying them.
+   *
+   * @param instance the instance URI (may be {@code null})
+   * @return a new {@link Problem} with the instance
+   */
+  default Problem withInstance(URI instance) {
+    return toBuilder().instance(instance).build();
+  }
+
   /**
    * A convenience method to verify if {@code type} field was assigned, as {@link #BLANK_TYPE} also
    * mean that type is unassigned.
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of batch conversion methods of {@link ProblemMapper}.
+ *
+ * <p>Results are written into pre-sized storage by index, so the parallel variant needs neither
+ * locking nor merging of partial results. Mapping plans are cached per exception class by the
+ * mappers themselves, so throwables of the same class share them regardless of the order.
+ */
+final class ProblemBatch {
+
+  /** Inputs smaller than this are converted sequentially even by the parallel variant. */
+  static final int PARALLEL_THRESHOLD = 1024;
+
+  private ProblemBatch() {}
+
+  static List<Problem> map(
+      ProblemMapper mapper, Collection<? extends Throwable> throwables, ProblemContext context) {
+    List<Problem> problems = new ArrayList<>(throwables.size());
+    for (Throwable t : throwables) {
+      problems.add(mapper.toProblemBuilder(t, context).build());
+    }
+    return Collections.unmodifiableList(problems);
+  }
+
+  static List<Problem> mapParallel(
+      ProblemMapper mapper, Collection<? extends Throwable> throwables, ProblemContext context) {
+    if (throwables.size() < PARALLEL_THRESHOLD) {
+      return map(mapper, throwables, context);
+    }
+    Throwable[] source = throwables.toArray(new Throwable[0]);
+    Problem[] problems = new Problem[source.length];
+    IntStream.range(0, source.length)
+        .parallel()
+        .forEach(i -> problems[i] = mapper.toProblemBuilder(source[i], context).build());
+    return Collections.unmodifiableList(Arrays.asList(problems));
+  }
+}
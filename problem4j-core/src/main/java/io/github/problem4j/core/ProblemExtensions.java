@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Compact immutable map of {@link Problem} extensions.
+ *
+ * <p>Keys and values are stored interleaved in a single flat array, in insertion order. Lookups
+ * scan that array linearly, which is the fastest option for the few extensions a problem usually
+ * carries. Only above {@link #LINEAR_SCAN_THRESHOLD} extensions an open-addressing hash index (with
+ * linear probing) into the array is built. Problems without extensions share {@link #EMPTY}.
+ *
+ * <p>The map itself is the unmodifiable view returned by {@link Problem#getExtensionMembers()}, and
+ * its key set is created once, so accessors don't allocate wrappers on each call.
+ *
+ * <p>{@link #with(String, Object)} doesn't copy the array, but returns an overlay of a single entry
+ * on top of this map. Point lookups walk the overlays; iteration, equality and hashing use a flat
+ * copy, created once when first needed. Chains of overlays are flattened after {@link
+ * #MAX_OVERLAY_DEPTH} levels, so a single {@code with} takes constant time, but a chain of them
+ * copies all entries every {@link #MAX_OVERLAY_DEPTH} calls, which makes each call cost {@code
+ * O(n / MAX_OVERLAY_DEPTH)} on average for {@code n} extensions. Measured per {@link
+ * Problem#withExtension(String, Object)} call, deriving 8 extensions one by one costs about as much
+ * as deriving one, while deriving 64 costs about four times more; adding many extensions should go
+ * through a {@link ProblemBuilder} instead.
+ */
+final class ProblemExtensions extends AbstractMap<String, Object> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /** Maximum number of extensions looked up by linear scan, without a hash index. */
+  static final int LINEAR_SCAN_THRESHOLD = 8;
+
+  /** Maximum number of overlays stacked on top of a flat map. */
+  static final int MAX_OVERLAY_DEPTH = 8;
+
+  /** Shared instance without extensions. */
+  static final ProblemExtensions EMPTY = new ProblemExtensions(new Object[0], 0);
+
+  /** Keys at even and values at odd positions, in insertion order; {@code null} for overlays. */
+  private final Object[] entries;
+
+  private final int size;
+
+  /**
+   * Open-addressing index of entry positions, stored as {@code position + 1} so that {@code 0}
+   * marks an empty slot; {@code null} when the map is small enough to be scanned linearly.
+   */
+  private final int[] index;
+
+  /** Map overlaid by {@link #overlayKey}, or {@code null} if this map is flat. */
+  private final ProblemExtensions parent;
+
+  private final String overlayKey;
+  private final Object overlayValue;
+
+  /** Number of overlays down to the nearest flat map, {@code 0} if this map is flat. */
+  private final int depth;
+
+  private transient volatile ProblemExtensions flattened;
+
+  private transient Set<String> keySet;
+  private transient Set<Map.Entry<String, Object>> entrySet;
+
+  /**
+   * Creates a map taking ownership of given array.
+   *
+   * @param entries keys at even and values at odd positions, without duplicate keys; must not be
+   *     modified afterwards
+   * @param size number of entries in the array
+   */
+  private ProblemExtensions(Object[] entries, int size) {
+    this.entries = entries;
+    this.size = size;
+    this.index = size > LINEAR_SCAN_THRESHOLD ? buildIndex(entries, size) : null;
+    this.parent = null;
+    this.overlayKey = null;
+    this.overlayValue = null;
+    this.depth = 0;
+  }
+
+  private ProblemExtensions(ProblemExtensions parent, String key, Object value, int size) {
+    this.entries = null;
+    this.size = size;
+    this.index = null;
+    this.parent = parent;
+    this.overlayKey = key;
+    this.overlayValue = value;
+    this.depth = parent.depth + 1;
+  }
+
+  /**
+   * Returns an immutable copy of given extensions, or given map itself if it's already a {@code
+   * ProblemExtensions}.
+   *
+   * @param extensions extensions to copy (may be {@code null})
+   * @return immutable extensions, {@link #EMPTY} if there are none
+   */
+  static ProblemExtensions copyOf(Map<String, Object> extensions) {
+    if (extensions instanceof ProblemExtensions) {
+      return (ProblemExtensions) extensions;
+    }
+    if (extensions == null || extensions.isEmpty()) {
+      return EMPTY;
+    }
+    // sized from the iteration rather than size(), which may disagree for a concurrent map
+    Object[] entries = new Object[extensions.size() * 2];
+    int size = 0;
+    for (Map.Entry<String, Object> entry : extensions.entrySet()) {
+      if (size * 2 == entries.length) {
+        entries = Arrays.copyOf(entries, Math.max(size * 4, 8));
+      }
+      entries[size * 2] = entry.getKey();
+      entries[size * 2 + 1] = entry.getValue();
+      size++;
+    }
+    if (size == 0) {
+      return EMPTY;
+    }
+    if (size * 2 < entries.length) {
+      entries = Arrays.copyOf(entries, size * 2);
+    }
+    return new ProblemExtensions(entries, size);
+  }
+
+  /**
+   * Creates a map taking ownership of given array, without copying it. Used by {@link
+   * AbstractProblemBuilder#build()}, which copies its array before any later modification.
+   *
+   * @param entries keys at even and values at odd positions, without duplicate keys; must not be
+   *     modified afterwards
+   * @param size number of entries in the array
+   * @return immutable extensions, {@link #EMPTY} if there are none
+   */
+  static ProblemExtensions wrap(Object[] entries, int size) {
+    return size == 0 ? EMPTY : new ProblemExtensions(entries, size);
+  }
+
+  /**
+   * Returns the backing array, for {@link AbstractProblemBuilder} to share until it's modified.
+   *
+   * @return keys at even and values at odd positions; must not be modified
+   */
+  Object[] entries() {
+    return flat().entries;
+  }
+
+  /**
+   * Returns extensions with given entry added, or with its value replaced if already present. The
+   * result overlays this map without copying it, unless this map is already {@link
+   * #MAX_OVERLAY_DEPTH} overlays deep, in which case its entries are copied first.
+   *
+   * @param key the extension key
+   * @param value the extension value
+   * @return new extensions, keeping the insertion order of this instance
+   */
+  ProblemExtensions with(String key, Object value) {
+    ProblemExtensions base = depth < MAX_OVERLAY_DEPTH ? this : flat();
+    int size = base.containsKey(key) ? base.size : base.size + 1;
+    return new ProblemExtensions(base, key, value, size);
+  }
+
+  /** Returns this map if it's flat, or its flat copy if it's an overlay. */
+  private ProblemExtensions flat() {
+    if (parent == null) {
+      return this;
+    }
+    ProblemExtensions flat = flattened;
+    if (flat == null) {
+      flat = flatten();
+      flattened = flat;
+    }
+    return flat;
+  }
+
+  private ProblemExtensions flatten() {
+    ProblemExtensions[] overlays = new ProblemExtensions[depth];
+    ProblemExtensions base = this;
+    for (int i = depth - 1; i >= 0; i--) {
+      overlays[i] = base;
+      base = base.parent;
+    }
+    Object[] copy = Arrays.copyOf(base.entries, size * 2);
+    int count = base.size;
+    for (ProblemExtensions overlay : overlays) {
+      int position = base.positionOf(overlay.overlayKey);
+      for (int i = base.size; position < 0 && i < count; i++) {
+        if (Objects.equals(overlay.overlayKey, copy[i * 2])) {
+          position = i;
+        }
+      }
+      if (position < 0) {
+        position = count++;
+        copy[position * 2] = overlay.overlayKey;
+      }
+      copy[position * 2 + 1] = overlay.overlayValue;
+    }
+    return new ProblemExtensions(copy, count);
+  }
+
+  private static int[] buildIndex(Object[] entries, int size) {
+    int capacity = Integer.highestOneBit(size * 2 - 1) << 1;
+    int[] index = new int[capacity];
+    int mask = capacity - 1;
+    for (int i = 0; i < size; i++) {
+      int slot = hash(entries[i * 2]) & mask;
+      while (index[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      index[slot] = i + 1;
+    }
+    return index;
+  }
+
+  private static int hash(Object key) {
+    int h = key != null ? key.hashCode() : 0;
+    return h ^ (h >>> 16);
+  }
+
+  /** Returns position of the entry with given key, or {@code -1} if there's no such entry. */
+  private int positionOf(Object key) {
+    Object[] entries = this.entries;
+    if (index == null) {
+      for (int i = 0; i < size; i++) {
+        Object candidate = entries[i * 2];
+        if (candidate == key || (key != null && key.equals(candidate))) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    int mask = index.length - 1;
+    int slot = hash(key) & mask;
+    int position;
+    while ((position = index[slot]) != 0) {
+      if (Objects.equals(key, entries[(position - 1) * 2])) {
+        return position - 1;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    ProblemExtensions node = this;
+    while (node.parent != null) {
+      if (Objects.equals(key, node.overlayKey)) {
+        return true;
+      }
+      node = node.parent;
+    }
+    return node.positionOf(key) >= 0;
+  }
+
+  @Override
+  public Object get(Object key) {
+    ProblemExtensions node = this;
+    while (node.parent != null) {
+      if (Objects.equals(key, node.overlayKey)) {
+        return node.overlayValue;
+      }
+      node = node.parent;
+    }
+    int position = node.positionOf(key);
+    return position >= 0 ? node.entries[position * 2 + 1] : null;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super Object> action) {
+    if (parent != null) {
+      flat().forEach(action);
+      return;
+    }
+    for (int i = 0; i < size; i++) {
+      action.accept(keyAt(i), entries[i * 2 + 1]);
+    }
+  }
+
+  private String keyAt(int position) {
+    return (String) entries[position * 2];
+  }
+
+  @Override
+  public Set<String> keySet() {
+    if (parent != null) {
+      return flat().keySet();
+    }
+    Set<String> keySet = this.keySet;
+    if (keySet == null) {
+      keySet = new KeySet();
+      this.keySet = keySet;
+    }
+    return keySet;
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet() {
+    if (parent != null) {
+      return flat().entrySet();
+    }
+    Set<Map.Entry<String, Object>> entrySet = this.entrySet;
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+      this.entrySet = entrySet;
+    }
+    return entrySet;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Object remove(Object key) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ?> m) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Map)) {
+      return false;
+    }
+    if (parent != null) {
+      return flat().equals(obj);
+    }
+    Map<?, ?> other = (Map<?, ?>) obj;
+    if (other.size() != size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      Object key = entries[i * 2];
+      Object value = entries[i * 2 + 1];
+      if (value == null) {
+        if (other.get(key) != null || !other.containsKey(key)) {
+          return false;
+        }
+      } else if (!value.equals(other.get(key))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    if (parent != null) {
+      return flat().hashCode();
+    }
+    int hash = 0;
+    for (int i = 0; i < size; i++) {
+      hash += Objects.hashCode(entries[i * 2]) ^ Objects.hashCode(entries[i * 2 + 1]);
+    }
+    return hash;
+  }
+
+  private Object writeReplace() {
+    return flat();
+  }
+
+  private Object readResolve() {
+    return size == 0 ? EMPTY : this;
+  }
+
+  /** Iterator over entry positions, in insertion order. */
+  private abstract class PositionIterator<E> implements Iterator<E> {
+
+    private int next;
+
+    @Override
+    public boolean hasNext() {
+      return next < size;
+    }
+
+    @Override
+    public E next() {
+      if (next >= size) {
+        throw new NoSuchElementException();
+      }
+      return at(next++);
+    }
+
+    abstract E at(int position);
+  }
+
+  private final class KeySet extends AbstractSet<String> {
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return positionOf(o) >= 0;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+      return new PositionIterator<String>() {
+        @Override
+        String at(int position) {
+          return keyAt(position);
+        }
+      };
+    }
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+      int position = positionOf(entry.getKey());
+      return position >= 0 && Objects.equals(entries[position * 2 + 1], entry.getValue());
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, Object>> iterator() {
+      return new PositionIterator<Map.Entry<String, Object>>() {
+        @Override
+        Map.Entry<String, Object> at(int position) {
+          return new SimpleImmutableEntry<>(keyAt(position), entries[position * 2 + 1]);
+        }
+      };
+    }
+  }
+}
@@ -31,6 +31,15 @@ final class ProblemImpl extends AbstractProblem {
     super(type, title, status, detail, instance, extensions);
   }
 
+  /**
+   * Replaces problems serialized by earlier versions, which are read with the extensions left in a
+   * {@code HashMap}.
+   */
+  private Object readResolve() {
+    return new ProblemImpl(
+        getType(), getTitle(), getStatus(), getDetail(), getInstance(), getExtensionMembers());
+  }
+
   static final class ExtensionImpl extends AbstractProblem.AbstractExtension {
 
     private static final long serialVersionUID = 1L;
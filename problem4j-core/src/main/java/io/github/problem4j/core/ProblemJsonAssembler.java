@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Collects members of a parsed {@code application/problem+json} document and creates the {@link
+ * Problem} directly, with extensions stored in the layout of {@link ProblemExtensions}.
+ */
+final class ProblemJsonAssembler {
+
+  private final ProblemJsonLimits limits;
+
+  private URI type;
+  private String title;
+  private int status;
+  private String detail;
+  private URI instance;
+
+  private Object[] extensionEntries = new Object[8];
+  private int extensionCount;
+  private int extensionMembers;
+  private Map<String, Integer> extensionPositions;
+
+  ProblemJsonAssembler(ProblemJsonLimits limits) {
+    this.limits = limits;
+  }
+
+  /**
+   * Checks whether a member name is an extension, counting it against the limit before its value
+   * is parsed.
+   *
+   * @param name the member name
+   * @throws ProblemJsonException if there are more extensions than allowed
+   */
+  void beginMember(String name) {
+    if (!ProblemJsonWriter.isStandardMember(name) && ++extensionMembers > limits.maxExtensions) {
+      throw new ProblemJsonException(
+          "Input exceeds maximum number of " + limits.maxExtensions + " extensions");
+    }
+  }
+
+  /**
+   * Applies a parsed member. Standard members with a value of unexpected type are ignored.
+   *
+   * @param name the member name
+   * @param value the parsed value
+   */
+  void member(String name, Object value) {
+    switch (name) {
+      case "type":
+        type = value instanceof String ? uri((String) value, type) : type;
+        break;
+      case "title":
+        title = value instanceof String ? (String) value : title;
+        break;
+      case "status":
+        status = value instanceof Integer ? (Integer) value : status;
+        break;
+      case "detail":
+        detail = value instanceof String ? (String) value : detail;
+        break;
+      case "instance":
+        instance = value instanceof String ? uri((String) value, instance) : instance;
+        break;
+      default:
+        if (value != null) {
+          putExtension(name, value);
+        }
+    }
+  }
+
+  private static URI uri(String value, URI fallback) {
+    try {
+      return new URI(value);
+    } catch (URISyntaxException e) {
+      return fallback;
+    }
+  }
+
+  private void putExtension(String name, Object value) {
+    int position = extensionPosition(name);
+    if (position >= 0) {
+      extensionEntries[position * 2 + 1] = value;
+      return;
+    }
+    if (extensionCount * 2 == extensionEntries.length) {
+      extensionEntries = Arrays.copyOf(extensionEntries, extensionEntries.length * 2);
+    }
+    extensionEntries[extensionCount * 2] = name;
+    extensionEntries[extensionCount * 2 + 1] = value;
+    if (extensionPositions != null) {
+      extensionPositions.put(name, extensionCount);
+    }
+    extensionCount++;
+  }
+
+  private int extensionPosition(String name) {
+    if (extensionCount <= ProblemExtensions.LINEAR_SCAN_THRESHOLD) {
+      for (int i = 0; i < extensionCount; i++) {
+        if (name.equals(extensionEntries[i * 2])) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    if (extensionPositions == null) {
+      extensionPositions = new HashMap<>();
+      for (int i = 0; i < extensionCount; i++) {
+        extensionPositions.put((String) extensionEntries[i * 2], i);
+      }
+    }
+    Integer position = extensionPositions.get(name);
+    return position != null ? position : -1;
+  }
+
+  /**
+   * @return the problem with all applied members
+   */
+  Problem build() {
+    return new ProblemImpl(
+        type != null ? type : Problem.BLANK_TYPE,
+        title,
+        status,
+        detail,
+        instance,
+        ProblemExtensions.wrap(extensionEntries, extensionCount));
+  }
+}
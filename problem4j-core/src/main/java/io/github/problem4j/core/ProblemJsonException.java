@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+/**
+ * Thrown by {@link ProblemJsonReader} when the input is not valid JSON, is not a JSON object, or
+ * exceeds one of the configured limits.
+ */
+public class ProblemJsonException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new exception with the specified detail message.
+   *
+   * @param message human-readable explanation of the failure
+   */
+  public ProblemJsonException(String message) {
+    super(message);
+  }
+
+  /**
+   * Creates a new exception with the specified detail message and cause.
+   *
+   * @param message human-readable explanation
+   * @param cause underlying cause (may be {@code null})
+   */
+  public ProblemJsonException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+/** Limits applied while parsing {@code application/problem+json} documents. */
+final class ProblemJsonLimits {
+
+  final int maxSize;
+  final int maxDepth;
+  final int maxExtensions;
+  final int maxNumberLength;
+
+  ProblemJsonLimits(int maxSize, int maxDepth, int maxExtensions, int maxNumberLength) {
+    this.maxSize = maxSize;
+    this.maxDepth = maxDepth;
+    this.maxExtensions = maxExtensions;
+    this.maxNumberLength = maxNumberLength;
+  }
+
+  /**
+   * Checks the size of an input, or of the part of it read so far.
+   *
+   * @param size the size in bytes or characters
+   * @throws ProblemJsonException if the size exceeds {@link #maxSize}
+   */
+  void checkSize(long size) {
+    if (size > maxSize) {
+      throw new ProblemJsonException("Input exceeds maximum size of " + maxSize);
+    }
+  }
+
+  /**
+   * Checks the nesting depth of an object or array about to be parsed.
+   *
+   * @param depth the depth, {@code 1} for the problem object itself
+   * @throws ProblemJsonException if the depth exceeds {@link #maxDepth}
+   */
+  void checkDepth(int depth) {
+    if (depth > maxDepth) {
+      throw new ProblemJsonException("Input exceeds maximum nesting depth of " + maxDepth);
+    }
+  }
+
+  /**
+   * Checks the length of a number literal, or of the part of it read so far. Converting long
+   * literals to {@link java.math.BigInteger} takes time quadratic in their length.
+   *
+   * @param length the number of characters of the literal, including sign, fraction and exponent
+   * @throws ProblemJsonException if the length exceeds {@link #maxNumberLength}
+   */
+  void checkNumberLength(int length) {
+    if (length > maxNumberLength) {
+      throw new ProblemJsonException(
+          "Input exceeds maximum number length of " + maxNumberLength);
+    }
+  }
+}
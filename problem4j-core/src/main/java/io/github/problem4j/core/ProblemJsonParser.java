@@ -0,0 +1,706 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Recursive descent parser of a complete {@code application/problem+json} document.
+ *
+ * <p>The input is addressed by index as a sequence of units, which are bytes of UTF-8 for binary
+ * input and chars for text input. All JSON structural characters are ASCII, so the grammar is the
+ * same for both, and only string contents are decoded differently. UTF-8 sequences never contain
+ * bytes of {@code '"'} or {@code '\\'}, so strings without escapes are decoded in a single step.
+ * Binary input is validated while strings are scanned, and malformed UTF-8 is rejected rather than
+ * decoded to replacement characters.
+ */
+abstract class ProblemJsonParser {
+
+  private final ProblemJsonLimits limits;
+  private final int start;
+  private final int end;
+  private final boolean utf8;
+  private int position;
+
+  private ProblemJsonParser(ProblemJsonLimits limits, int start, int end, boolean utf8) {
+    this.limits = limits;
+    this.start = start;
+    this.end = end;
+    this.utf8 = utf8;
+    this.position = start;
+  }
+
+  static ProblemJsonParser of(byte[] json, int offset, int length, ProblemJsonLimits limits) {
+    limits.checkSize(length);
+    return new BytesParser(json, offset, length, limits);
+  }
+
+  static ProblemJsonParser of(ByteBuffer json, ProblemJsonLimits limits) {
+    limits.checkSize(json.remaining());
+    if (json.hasArray()) {
+      return new BytesParser(
+          json.array(), json.arrayOffset() + json.position(), json.remaining(), limits);
+    }
+    return new BufferParser(json, limits);
+  }
+
+  static ProblemJsonParser of(CharSequence json, ProblemJsonLimits limits) {
+    limits.checkSize(json.length());
+    return new CharsParser(json, limits);
+  }
+
+  /**
+   * Returns the unit at given index.
+   *
+   * @param index index between {@code start} (inclusive) and {@code end} (exclusive)
+   * @return the byte (as unsigned value) or char at given index
+   */
+  abstract int at(int index);
+
+  /**
+   * Decodes units without escapes into a string.
+   *
+   * @param from start index (inclusive)
+   * @param to end index (exclusive)
+   * @return decoded string
+   */
+  abstract String decode(int from, int to);
+
+  /**
+   * Parses the whole input as a problem object.
+   *
+   * @return parsed problem
+   * @throws ProblemJsonException if the input is not a valid problem document or exceeds a limit
+   */
+  Problem parse() {
+    ProblemJsonAssembler assembler = new ProblemJsonAssembler(limits);
+    parseMembers(
+        name -> {
+          assembler.beginMember(name);
+          assembler.member(name, parseValue(1));
+        });
+    return assembler.build();
+  }
+
+  /**
+   * Validates the whole input as a problem object like {@link #parse()}, but skips member values
+   * instead of parsing them and passes their offsets to given index.
+   *
+   * @param index receives every member of the problem object, in order of the input
+   * @throws ProblemJsonException if the input is not a valid problem document or exceeds the depth
+   *     limit
+   */
+  void index(MemberIndex index) {
+    parseMembers(
+        name -> {
+          skipWhitespace();
+          int from = position;
+          skipValue(1);
+          index.member(name, from);
+        });
+  }
+
+  /**
+   * Parses a single member value of the problem object, previously located by {@link
+   * #index(MemberIndex)}.
+   *
+   * @param index index of the first unit of the value
+   * @return parsed value
+   */
+  Object valueAt(int index) {
+    position = index;
+    return parseValue(1);
+  }
+
+  /**
+   * Parses members of the problem object, leaving each value to given consumer.
+   *
+   * @param member called with each member name, when the position is right after the colon
+   */
+  private void parseMembers(Consumer<String> member) {
+    skipWhitespace();
+    expect('{');
+    skipWhitespace();
+    if (peek() == '}') {
+      position++;
+    } else {
+      while (true) {
+        skipWhitespace();
+        String name = parseString();
+        skipWhitespace();
+        expect(':');
+        member.accept(name);
+        skipWhitespace();
+        int next = next();
+        if (next == '}') {
+          break;
+        }
+        if (next != ',') {
+          throw unexpected(next, position - 1);
+        }
+      }
+    }
+    skipWhitespace();
+    if (position < end) {
+      throw unexpected(at(position), position);
+    }
+  }
+
+  private Object parseValue(int depth) {
+    skipWhitespace();
+    int c = peek();
+    switch (c) {
+      case '{':
+        return parseObject(depth + 1);
+      case '[':
+        return parseArray(depth + 1);
+      case '"':
+        return parseString();
+      case 't':
+        parseLiteral("true");
+        return Boolean.TRUE;
+      case 'f':
+        parseLiteral("false");
+        return Boolean.FALSE;
+      case 'n':
+        parseLiteral("null");
+        return null;
+      default:
+        if (c == '-' || (c >= '0' && c <= '9')) {
+          return parseNumber();
+        }
+        throw unexpected(c, position);
+    }
+  }
+
+  private Map<String, Object> parseObject(int depth) {
+    limits.checkDepth(depth);
+    position++;
+    Map<String, Object> object = new LinkedHashMap<>();
+    skipWhitespace();
+    if (peek() == '}') {
+      position++;
+      return object;
+    }
+    while (true) {
+      skipWhitespace();
+      String name = parseString();
+      skipWhitespace();
+      expect(':');
+      object.put(name, parseValue(depth));
+      skipWhitespace();
+      int next = next();
+      if (next == '}') {
+        return object;
+      }
+      if (next != ',') {
+        throw unexpected(next, position - 1);
+      }
+    }
+  }
+
+  private List<Object> parseArray(int depth) {
+    limits.checkDepth(depth);
+    position++;
+    List<Object> array = new ArrayList<>();
+    skipWhitespace();
+    if (peek() == ']') {
+      position++;
+      return array;
+    }
+    while (true) {
+      array.add(parseValue(depth));
+      skipWhitespace();
+      int next = next();
+      if (next == ']') {
+        return array;
+      }
+      if (next != ',') {
+        throw unexpected(next, position - 1);
+      }
+    }
+  }
+
+  private void skipValue(int depth) {
+    skipWhitespace();
+    int c = peek();
+    switch (c) {
+      case '{':
+        skipContainer(depth + 1, '}');
+        break;
+      case '[':
+        skipContainer(depth + 1, ']');
+        break;
+      case '"':
+        skipString();
+        break;
+      case 't':
+        parseLiteral("true");
+        break;
+      case 'f':
+        parseLiteral("false");
+        break;
+      case 'n':
+        parseLiteral("null");
+        break;
+      default:
+        if (c == '-' || (c >= '0' && c <= '9')) {
+          skipNumber();
+        } else {
+          throw unexpected(c, position);
+        }
+    }
+  }
+
+  /** Skips an object or an array, as told by its closing character. */
+  private void skipContainer(int depth, char close) {
+    limits.checkDepth(depth);
+    position++;
+    skipWhitespace();
+    if (peek() == close) {
+      position++;
+      return;
+    }
+    while (true) {
+      if (close == '}') {
+        skipWhitespace();
+        skipString();
+        skipWhitespace();
+        expect(':');
+      }
+      skipValue(depth);
+      skipWhitespace();
+      int next = next();
+      if (next == close) {
+        return;
+      }
+      if (next != ',') {
+        throw unexpected(next, position - 1);
+      }
+    }
+  }
+
+  private void skipString() {
+    expect('"');
+    while (true) {
+      int c = next();
+      if (c == '"') {
+        return;
+      }
+      if (c == '\\') {
+        parseEscape();
+      } else if (c < 0x20) {
+        throw unexpected(c, position - 1);
+      } else if (c >= 0x80 && utf8) {
+        skipUtf8Continuations(c);
+      }
+    }
+  }
+
+  private String parseString() {
+    expect('"');
+    int from = position;
+    while (true) {
+      int c = next();
+      if (c == '"') {
+        return decode(from, position - 1);
+      }
+      if (c == '\\') {
+        position--;
+        break;
+      }
+      if (c < 0x20) {
+        throw unexpected(c, position - 1);
+      }
+      if (c >= 0x80 && utf8) {
+        skipUtf8Continuations(c);
+      }
+    }
+    StringBuilder result = new StringBuilder(position - from + 16);
+    result.append(decode(from, position));
+    int segment = position;
+    while (true) {
+      int c = next();
+      if (c == '"') {
+        return result.append(decode(segment, position - 1)).toString();
+      }
+      if (c == '\\') {
+        result.append(decode(segment, position - 1));
+        result.append(parseEscape());
+        segment = position;
+      } else if (c < 0x20) {
+        throw unexpected(c, position - 1);
+      } else if (c >= 0x80 && utf8) {
+        skipUtf8Continuations(c);
+      }
+    }
+  }
+
+  /** Validates the UTF-8 sequence started by given lead byte and moves past its other bytes. */
+  private void skipUtf8Continuations(int lead) {
+    int continuations = utf8Continuations(lead);
+    if (continuations < 0) {
+      throw invalidUtf8(lead, position - 1 - start);
+    }
+    for (int i = 0; i < continuations; i++) {
+      int c = peekOrEnd();
+      if (!isUtf8Continuation(lead, i, c)) {
+        throw c < 0 ? unexpectedEnd() : invalidUtf8(c, position - start);
+      }
+      position++;
+    }
+  }
+
+  private char parseEscape() {
+    int c = next();
+    switch (c) {
+      case '"':
+      case '\\':
+      case '/':
+        return (char) c;
+      case 'b':
+        return '\b';
+      case 'f':
+        return '\f';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 't':
+        return '\t';
+      case 'u':
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+          int digit = Character.digit(next(), 16);
+          if (digit < 0) {
+            throw unexpected(at(position - 1), position - 1);
+          }
+          value = value * 16 + digit;
+        }
+        return (char) value;
+      default:
+        throw unexpected(c, position - 1);
+    }
+  }
+
+  private void parseLiteral(String literal) {
+    for (int i = 0; i < literal.length(); i++) {
+      int c = next();
+      if (c != literal.charAt(i)) {
+        throw unexpected(c, position - 1);
+      }
+    }
+  }
+
+  private Object parseNumber() {
+    int from = position;
+    boolean negative = peek() == '-';
+    int digitsFrom = negative ? from + 1 : from;
+    boolean integral = scanNumber();
+    if (integral && position - digitsFrom <= 18) {
+      long value = 0;
+      for (int i = digitsFrom; i < position; i++) {
+        value = value * 10 + (at(i) - '0');
+      }
+      value = negative ? -value : value;
+      if (value == (int) value) {
+        return (int) value;
+      }
+      return value;
+    }
+    return number(decode(from, position), integral, from - start);
+  }
+
+  /**
+   * Advances over a number, checking that it converts like in {@link #parseNumber()}. Integral
+   * numbers within the length limit always convert, so only the others are converted here.
+   */
+  private void skipNumber() {
+    int from = position;
+    if (!scanNumber()) {
+      number(decode(from, position), false, from - start);
+    }
+  }
+
+  /**
+   * Advances over a number.
+   *
+   * @return whether the number has neither fraction nor exponent
+   */
+  private boolean scanNumber() {
+    int from = position;
+    if (peek() == '-') {
+      position++;
+    }
+    int c = next();
+    if (c == '0') {
+      c = peekOrEnd();
+    } else if (c >= '1' && c <= '9') {
+      c = skipDigits();
+    } else {
+      throw unexpected(c, position - 1);
+    }
+    boolean integral = true;
+    if (c == '.') {
+      position++;
+      requireDigit();
+      c = skipDigits();
+      integral = false;
+    }
+    if (c == 'e' || c == 'E') {
+      position++;
+      c = peekOrEnd();
+      if (c == '+' || c == '-') {
+        position++;
+      }
+      requireDigit();
+      skipDigits();
+      integral = false;
+    }
+    limits.checkNumberLength(position - from);
+    return integral;
+  }
+
+  /**
+   * Converts the text of a valid JSON number that does not fit the fast path of small integers.
+   *
+   * @param text the number text
+   * @param integral whether the number has neither fraction nor exponent
+   * @param offset offset of the number in the input, for the error message
+   * @return {@link Long} or {@link BigInteger} for integral numbers, {@link Double} otherwise, or
+   *     {@link BigDecimal} if the number exceeds the range of a double
+   * @throws ProblemJsonException if the number exceeds the range of a {@link BigDecimal}, such as
+   *     {@code 1e9999999999}
+   */
+  static Object number(String text, boolean integral, int offset) {
+    try {
+      if (integral) {
+        BigInteger value = new BigInteger(text);
+        return value.bitLength() < 64 ? (Object) value.longValue() : value;
+      }
+      double value = Double.parseDouble(text);
+      return Double.isInfinite(value) ? new BigDecimal(text) : (Object) value;
+    } catch (NumberFormatException | ArithmeticException e) {
+      throw numberOutOfRange(offset, e);
+    }
+  }
+
+  private void requireDigit() {
+    int c = peekOrEnd();
+    if (c < '0' || c > '9') {
+      throw unexpected(c, position);
+    }
+  }
+
+  /** Skips digits and returns the following unit, or {@code -1} at the end of input. */
+  private int skipDigits() {
+    int c;
+    while ((c = peekOrEnd()) >= '0' && c <= '9') {
+      position++;
+    }
+    return c;
+  }
+
+  private void skipWhitespace() {
+    while (position < end) {
+      int c = at(position);
+      if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+        return;
+      }
+      position++;
+    }
+  }
+
+  private void expect(char expected) {
+    int c = next();
+    if (c != expected) {
+      throw unexpected(c, position - 1);
+    }
+  }
+
+  private int peek() {
+    if (position >= end) {
+      throw unexpectedEnd();
+    }
+    return at(position);
+  }
+
+  private int peekOrEnd() {
+    return position < end ? at(position) : -1;
+  }
+
+  private int next() {
+    if (position >= end) {
+      throw unexpectedEnd();
+    }
+    return at(position++);
+  }
+
+  private ProblemJsonException unexpected(int c, int index) {
+    if (c < 0) {
+      return unexpectedEnd();
+    }
+    return unexpectedCharacter(c, index - start);
+  }
+
+  private ProblemJsonException unexpectedEnd() {
+    return unexpectedEnd(end - start);
+  }
+
+  static ProblemJsonException unexpectedCharacter(int c, int offset) {
+    String character = c >= 0x20 && c < 0x7F ? "'" + (char) c + "'" : String.format("0x%02X", c);
+    return new ProblemJsonException("Unexpected character " + character + " at offset " + offset);
+  }
+
+  static ProblemJsonException unexpectedEnd(int offset) {
+    return new ProblemJsonException("Unexpected end of input at offset " + offset);
+  }
+
+  static ProblemJsonException numberOutOfRange(int offset, Throwable cause) {
+    return new ProblemJsonException("Number out of range at offset " + offset, cause);
+  }
+
+  static ProblemJsonException invalidUtf8(int b, int offset) {
+    return new ProblemJsonException(
+        String.format("Invalid UTF-8 byte 0x%02X at offset %d", b, offset));
+  }
+
+  /**
+   * Returns the number of continuation bytes following given lead byte of a UTF-8 sequence.
+   *
+   * @param lead a byte of at least {@code 0x80}, as unsigned value
+   * @return {@code 1} to {@code 3}, or {@code -1} if the byte cannot start a well-formed sequence
+   */
+  static int utf8Continuations(int lead) {
+    if (lead >= 0xC2 && lead <= 0xDF) {
+      return 1;
+    }
+    if (lead >= 0xE0 && lead <= 0xEF) {
+      return 2;
+    }
+    if (lead >= 0xF0 && lead <= 0xF4) {
+      return 3;
+    }
+    return -1;
+  }
+
+  /**
+   * Checks a continuation byte of a UTF-8 sequence. The range of the first one depends on the lead
+   * byte, which rules out overlong encodings, surrogates and code points above {@code U+10FFFF}.
+   *
+   * @param lead the lead byte of the sequence
+   * @param index index of the continuation byte, {@code 0} for the first one
+   * @param c the byte as unsigned value, or {@code -1} at the end of input
+   * @return {@code true} if the byte is allowed at that position
+   */
+  static boolean isUtf8Continuation(int lead, int index, int c) {
+    int min = 0x80;
+    int max = 0xBF;
+    if (index == 0) {
+      if (lead == 0xE0) {
+        min = 0xA0;
+      } else if (lead == 0xED) {
+        max = 0x9F;
+      } else if (lead == 0xF0) {
+        min = 0x90;
+      } else if (lead == 0xF4) {
+        max = 0x8F;
+      }
+    }
+    return c >= min && c <= max;
+  }
+
+  /** Receives members located by {@link #index(MemberIndex)}. */
+  interface MemberIndex {
+
+    /**
+     * @param name the member name
+     * @param from index of the first unit of the member value
+     */
+    void member(String name, int from);
+  }
+
+  private static final class BytesParser extends ProblemJsonParser {
+
+    private final byte[] bytes;
+
+    private BytesParser(byte[] bytes, int offset, int length, ProblemJsonLimits limits) {
+      super(limits, offset, offset + length, true);
+      this.bytes = bytes;
+    }
+
+    @Override
+    int at(int index) {
+      return bytes[index] & 0xFF;
+    }
+
+    @Override
+    String decode(int from, int to) {
+      return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static final class BufferParser extends ProblemJsonParser {
+
+    private final ByteBuffer buffer;
+
+    private BufferParser(ByteBuffer buffer, ProblemJsonLimits limits) {
+      super(limits, buffer.position(), buffer.limit(), true);
+      this.buffer = buffer;
+    }
+
+    @Override
+    int at(int index) {
+      return buffer.get(index) & 0xFF;
+    }
+
+    @Override
+    String decode(int from, int to) {
+      byte[] bytes = new byte[to - from];
+      for (int i = 0; i < bytes.length; i++) {
+        bytes[i] = buffer.get(from + i);
+      }
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static final class CharsParser extends ProblemJsonParser {
+
+    private final CharSequence chars;
+
+    private CharsParser(CharSequence chars, ProblemJsonLimits limits) {
+      super(limits, 0, chars.length(), false);
+      this.chars = chars;
+    }
+
+    @Override
+    int at(int index) {
+      return chars.charAt(index);
+    }
+
+    @Override
+    String decode(int from, int to) {
+      return chars.subSequence(from, to).toString();
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Incremental parser of a UTF-8 encoded {@code application/problem+json} body that arrives in
+ * chunks, for example from a non-blocking HTTP client. Each chunk is consumed as soon as it is
+ * {@linkplain #feed(ByteBuffer) fed}, so the body is never buffered as a whole and parsing overlaps
+ * with I/O.
+ *
+ * <pre>{@code
+ * ProblemJsonPushParser parser = reader.newPushParser();
+ * // for every received chunk
+ * parser.feed(chunk);
+ * // once the body is complete
+ * Problem problem = parser.finish();
+ * }</pre>
+ *
+ * <p>The parser applies the same rules and limits as the {@link ProblemJsonReader} that created it.
+ * Once any method throws {@link ProblemJsonException}, the parser is failed and cannot be used
+ * anymore. Instances are meant for a single body and are not thread-safe.
+ */
+public interface ProblemJsonPushParser {
+
+  /**
+   * Consumes all remaining bytes of given chunk, which may be a direct buffer. Chunks may split the
+   * input at any byte, including within strings, numbers and multibyte characters. The position of
+   * the buffer is advanced to its limit and the buffer is not retained, so it can be reused for the
+   * next chunk.
+   *
+   * @param chunk the next chunk of JSON bytes
+   * @throws ProblemJsonException if the input read so far is not a valid prefix of a problem
+   *     document or exceeds a limit
+   * @throws IllegalStateException if the parser has already finished or failed
+   */
+  void feed(ByteBuffer chunk);
+
+  /**
+   * @return {@code true} if the closing brace of the problem object has been consumed, so that
+   *     {@link #finish()} will succeed unless more non-whitespace input is fed
+   */
+  boolean isComplete();
+
+  /**
+   * Signals the end of input and returns the parsed problem.
+   *
+   * @return parsed problem
+   * @throws ProblemJsonException if the input ended before the problem object was complete
+   * @throws IllegalStateException if the parser has already finished or failed
+   */
+  Problem finish();
+}
@@ -0,0 +1,555 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static io.github.problem4j.core.ProblemJsonParser.invalidUtf8;
+import static io.github.problem4j.core.ProblemJsonParser.isUtf8Continuation;
+import static io.github.problem4j.core.ProblemJsonParser.unexpectedCharacter;
+import static io.github.problem4j.core.ProblemJsonParser.unexpectedEnd;
+import static io.github.problem4j.core.ProblemJsonParser.utf8Continuations;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Byte-level state machine over the same grammar as {@link ProblemJsonParser}. Instead of the call
+ * stack, open objects and arrays are kept on an explicit stack, and tokens split between chunks
+ * (strings, numbers and literals) are accumulated until they are complete.
+ */
+final class ProblemJsonPushParserImpl implements ProblemJsonPushParser {
+
+  private static final int BEGIN = 0;
+  private static final int OBJECT_FIRST = 1;
+  private static final int MEMBER_NAME = 2;
+  private static final int COLON = 3;
+  private static final int VALUE = 4;
+  private static final int ARRAY_FIRST = 5;
+  private static final int AFTER_VALUE = 6;
+  private static final int STRING = 7;
+  private static final int STRING_ESCAPE = 8;
+  private static final int STRING_UNICODE = 9;
+  private static final int NUMBER = 10;
+  private static final int LITERAL = 11;
+  private static final int END = 12;
+  private static final int FINISHED = 13;
+  private static final int FAILED = 14;
+
+  private static final int NUMBER_SIGN = 0;
+  private static final int NUMBER_ZERO = 1;
+  private static final int NUMBER_INTEGER = 2;
+  private static final int NUMBER_FRACTION_START = 3;
+  private static final int NUMBER_FRACTION = 4;
+  private static final int NUMBER_EXPONENT_START = 5;
+  private static final int NUMBER_EXPONENT_SIGN = 6;
+  private static final int NUMBER_EXPONENT = 7;
+
+  private final ProblemJsonLimits limits;
+  private final ProblemJsonAssembler assembler;
+
+  private int state = BEGIN;
+
+  /** Number of bytes consumed by previous chunks. */
+  private int consumed;
+
+  /** Difference between the offset in the whole input and the index in the current chunk. */
+  private int chunkOffset;
+
+  /** Open objects and arrays, the problem object itself is at index 0 and stored as null. */
+  private Object[] containers = new Object[8];
+
+  /** Pending member names of open objects. */
+  private String[] names = new String[8];
+
+  private int depth;
+
+  /** Undecoded bytes of the current string, or ASCII text of the current number. */
+  private byte[] raw = new byte[64];
+
+  private int rawLength;
+
+  private boolean memberName;
+
+  /** Decoded part of the current string, used only once an escape sequence is met. */
+  private StringBuilder decoded;
+
+  private boolean escaped;
+
+  /** Lead byte of the UTF-8 sequence in progress, and its continuation bytes seen and pending. */
+  private int utf8Lead;
+
+  private int utf8Index;
+  private int utf8Pending;
+
+  private int unicodeDigits;
+  private int unicodeValue;
+
+  private int numberState;
+  private boolean integral;
+
+  /** Offset of the current number in the whole input. */
+  private int numberOffset;
+
+  private String literal;
+  private int literalIndex;
+
+  ProblemJsonPushParserImpl(ProblemJsonLimits limits) {
+    this.limits = limits;
+    this.assembler = new ProblemJsonAssembler(limits);
+  }
+
+  @Override
+  public void feed(ByteBuffer chunk) {
+    checkUsable();
+    try {
+      limits.checkSize((long) consumed + chunk.remaining());
+      int from = chunk.position();
+      int to = chunk.limit();
+      chunkOffset = consumed - from;
+      int index = from;
+      while (index < to) {
+        index = step(chunk, index, to);
+      }
+      consumed += to - from;
+      chunk.position(to);
+    } catch (RuntimeException e) {
+      // any failure leaves the state inconsistent, so the parser must not be used any further
+      state = FAILED;
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean isComplete() {
+    return state == END;
+  }
+
+  @Override
+  public Problem finish() {
+    checkUsable();
+    if (state != END) {
+      state = FAILED;
+      throw unexpectedEnd(consumed);
+    }
+    state = FINISHED;
+    return assembler.build();
+  }
+
+  private void checkUsable() {
+    if (state == FINISHED) {
+      throw new IllegalStateException("Push parser has already finished");
+    }
+    if (state == FAILED) {
+      throw new IllegalStateException("Push parser has already failed");
+    }
+  }
+
+  /**
+   * Processes input starting at given index.
+   *
+   * @return index of the first unprocessed byte
+   */
+  private int step(ByteBuffer chunk, int index, int to) {
+    if (state == STRING) {
+      return string(chunk, index, to);
+    }
+    int c = chunk.get(index) & 0xFF;
+    switch (state) {
+      case STRING_ESCAPE:
+        escape(c, index);
+        return index + 1;
+      case STRING_UNICODE:
+        unicode(c, index);
+        return index + 1;
+      case NUMBER:
+        return number(c, index);
+      case LITERAL:
+        literal(c, index);
+        return index + 1;
+      default:
+        break;
+    }
+    if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+      return index + 1;
+    }
+    switch (state) {
+      case BEGIN:
+        if (c != '{') {
+          throw unexpected(c, index);
+        }
+        push(null);
+        state = OBJECT_FIRST;
+        break;
+      case OBJECT_FIRST:
+        if (c == '}') {
+          pop();
+        } else {
+          beginString(c, index, true);
+        }
+        break;
+      case MEMBER_NAME:
+        beginString(c, index, true);
+        break;
+      case COLON:
+        if (c != ':') {
+          throw unexpected(c, index);
+        }
+        state = VALUE;
+        break;
+      case ARRAY_FIRST:
+        if (c == ']') {
+          pop();
+        } else {
+          value(c, index);
+        }
+        break;
+      case VALUE:
+        value(c, index);
+        break;
+      case AFTER_VALUE:
+        afterValue(c, index);
+        break;
+      default:
+        throw unexpected(c, index);
+    }
+    return index + 1;
+  }
+
+  private void value(int c, int index) {
+    switch (c) {
+      case '{':
+        limits.checkDepth(depth + 1);
+        push(new LinkedHashMap<String, Object>());
+        state = OBJECT_FIRST;
+        break;
+      case '[':
+        limits.checkDepth(depth + 1);
+        push(new ArrayList<>());
+        state = ARRAY_FIRST;
+        break;
+      case '"':
+        beginString(c, index, false);
+        break;
+      case 't':
+        beginLiteral("true");
+        break;
+      case 'f':
+        beginLiteral("false");
+        break;
+      case 'n':
+        beginLiteral("null");
+        break;
+      default:
+        if (c != '-' && (c < '0' || c > '9')) {
+          throw unexpected(c, index);
+        }
+        rawLength = 0;
+        appendRaw(c);
+        numberOffset = chunkOffset + index;
+        numberState = c == '-' ? NUMBER_SIGN : c == '0' ? NUMBER_ZERO : NUMBER_INTEGER;
+        integral = true;
+        state = NUMBER;
+    }
+  }
+
+  private void afterValue(int c, int index) {
+    boolean array = containers[depth - 1] instanceof List;
+    if (c == ',') {
+      state = array ? VALUE : MEMBER_NAME;
+    } else if (c == (array ? ']' : '}')) {
+      pop();
+    } else {
+      throw unexpected(c, index);
+    }
+  }
+
+  private void push(Object container) {
+    if (depth == containers.length) {
+      containers = Arrays.copyOf(containers, depth * 2);
+      names = Arrays.copyOf(names, depth * 2);
+    }
+    containers[depth++] = container;
+  }
+
+  private void pop() {
+    Object container = containers[--depth];
+    containers[depth] = null;
+    names[depth] = null;
+    if (depth == 0) {
+      state = END;
+    } else {
+      complete(container);
+    }
+  }
+
+  /** Adds a completed value to the innermost open object or array. */
+  @SuppressWarnings("unchecked")
+  private void complete(Object value) {
+    Object container = containers[depth - 1];
+    if (depth == 1) {
+      assembler.member(names[0], value);
+    } else if (container instanceof List) {
+      ((List<Object>) container).add(value);
+    } else {
+      ((Map<String, Object>) container).put(names[depth - 1], value);
+    }
+    state = AFTER_VALUE;
+  }
+
+  private void beginString(int c, int index, boolean memberName) {
+    if (c != '"') {
+      throw unexpected(c, index);
+    }
+    this.memberName = memberName;
+    rawLength = 0;
+    escaped = false;
+    utf8Pending = 0;
+    state = STRING;
+  }
+
+  private int string(ByteBuffer chunk, int index, int to) {
+    int run = index;
+    int c = -1;
+    while (run < to) {
+      c = chunk.get(run) & 0xFF;
+      if (utf8Pending > 0) {
+        if (!isUtf8Continuation(utf8Lead, utf8Index, c)) {
+          throw invalidUtf8(c, chunkOffset + run);
+        }
+        utf8Index++;
+        utf8Pending--;
+      } else if (c >= 0x80) {
+        utf8Pending = utf8Continuations(c);
+        if (utf8Pending < 0) {
+          throw invalidUtf8(c, chunkOffset + run);
+        }
+        utf8Lead = c;
+        utf8Index = 0;
+      } else if (c == '"' || c == '\\' || c < 0x20) {
+        break;
+      }
+      run++;
+    }
+    appendRaw(chunk, index, run);
+    if (run == to) {
+      return run;
+    }
+    if (c == '"') {
+      String value = decodeRaw();
+      if (escaped) {
+        value = decoded.append(value).toString();
+      }
+      if (memberName) {
+        names[depth - 1] = value;
+        if (depth == 1) {
+          assembler.beginMember(value);
+        }
+        state = COLON;
+      } else {
+        complete(value);
+      }
+    } else if (c == '\\') {
+      if (!escaped) {
+        if (decoded == null) {
+          decoded = new StringBuilder();
+        }
+        decoded.setLength(0);
+        escaped = true;
+      }
+      decoded.append(decodeRaw());
+      rawLength = 0;
+      state = STRING_ESCAPE;
+    } else {
+      throw unexpected(c, run);
+    }
+    return run + 1;
+  }
+
+  private void escape(int c, int index) {
+    state = STRING;
+    switch (c) {
+      case '"':
+      case '\\':
+      case '/':
+        decoded.append((char) c);
+        break;
+      case 'b':
+        decoded.append('\b');
+        break;
+      case 'f':
+        decoded.append('\f');
+        break;
+      case 'n':
+        decoded.append('\n');
+        break;
+      case 'r':
+        decoded.append('\r');
+        break;
+      case 't':
+        decoded.append('\t');
+        break;
+      case 'u':
+        unicodeDigits = 0;
+        unicodeValue = 0;
+        state = STRING_UNICODE;
+        break;
+      default:
+        throw unexpected(c, index);
+    }
+  }
+
+  private void unicode(int c, int index) {
+    int digit = Character.digit(c, 16);
+    if (digit < 0) {
+      throw unexpected(c, index);
+    }
+    unicodeValue = unicodeValue * 16 + digit;
+    if (++unicodeDigits == 4) {
+      decoded.append((char) unicodeValue);
+      state = STRING;
+    }
+  }
+
+  /**
+   * Advances the number by given byte, or completes it if the byte cannot be part of it.
+   *
+   * @return index of the next byte to process, which is the same index if the number is complete
+   */
+  private int number(int c, int index) {
+    boolean digit = c >= '0' && c <= '9';
+    switch (numberState) {
+      case NUMBER_SIGN:
+        if (!digit) {
+          throw unexpected(c, index);
+        }
+        numberState = c == '0' ? NUMBER_ZERO : NUMBER_INTEGER;
+        break;
+      case NUMBER_ZERO:
+      case NUMBER_INTEGER:
+      case NUMBER_FRACTION:
+        if (digit && numberState != NUMBER_ZERO) {
+          break;
+        }
+        if (c == '.' && numberState != NUMBER_FRACTION) {
+          numberState = NUMBER_FRACTION_START;
+        } else if (c == 'e' || c == 'E') {
+          numberState = NUMBER_EXPONENT_START;
+        } else {
+          complete(completeNumber());
+          return index;
+        }
+        integral = false;
+        break;
+      case NUMBER_FRACTION_START:
+        if (!digit) {
+          throw unexpected(c, index);
+        }
+        numberState = NUMBER_FRACTION;
+        break;
+      case NUMBER_EXPONENT_START:
+        if (c == '+' || c == '-') {
+          numberState = NUMBER_EXPONENT_SIGN;
+        } else if (digit) {
+          numberState = NUMBER_EXPONENT;
+        } else {
+          throw unexpected(c, index);
+        }
+        break;
+      case NUMBER_EXPONENT_SIGN:
+        if (!digit) {
+          throw unexpected(c, index);
+        }
+        numberState = NUMBER_EXPONENT;
+        break;
+      default:
+        if (!digit) {
+          complete(completeNumber());
+          return index;
+        }
+    }
+    limits.checkNumberLength(rawLength + 1);
+    appendRaw(c);
+    return index + 1;
+  }
+
+  private Object completeNumber() {
+    boolean negative = raw[0] == '-';
+    int digits = negative ? rawLength - 1 : rawLength;
+    if (integral && digits <= 18) {
+      long value = 0;
+      for (int i = negative ? 1 : 0; i < rawLength; i++) {
+        value = value * 10 + (raw[i] - '0');
+      }
+      value = negative ? -value : value;
+      if (value == (int) value) {
+        return (int) value;
+      }
+      return value;
+    }
+    return ProblemJsonParser.number(
+        new String(raw, 0, rawLength, StandardCharsets.US_ASCII), integral, numberOffset);
+  }
+
+  private void beginLiteral(String literal) {
+    this.literal = literal;
+    literalIndex = 1;
+    state = LITERAL;
+  }
+
+  private void literal(int c, int index) {
+    if (c != literal.charAt(literalIndex)) {
+      throw unexpected(c, index);
+    }
+    if (++literalIndex == literal.length()) {
+      complete(literal.equals("null") ? null : Boolean.valueOf(literal));
+    }
+  }
+
+  private void appendRaw(int c) {
+    ensureRawCapacity(1);
+    raw[rawLength++] = (byte) c;
+  }
+
+  private void appendRaw(ByteBuffer chunk, int from, int to) {
+    int length = to - from;
+    ensureRawCapacity(length);
+    if (chunk.hasArray()) {
+      System.arraycopy(chunk.array(), chunk.arrayOffset() + from, raw, rawLength, length);
+    } else {
+      for (int i = from; i < to; i++) {
+        raw[rawLength + i - from] = chunk.get(i);
+      }
+    }
+    rawLength += length;
+  }
+
+  private void ensureRawCapacity(int length) {
+    if (rawLength + length > raw.length) {
+      raw = Arrays.copyOf(raw, Math.max(raw.length * 2, rawLength + length));
+    }
+  }
+
+  private String decodeRaw() {
+    return new String(raw, 0, rawLength, StandardCharsets.UTF_8);
+  }
+
+  private ProblemJsonException unexpected(int c, int index) {
+    return unexpectedCharacter(c, chunkOffset + index);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Parses {@code application/problem+json} (<a href="https://tools.ietf.org/html/rfc7807">RFC
+ * 7807</a>) documents into immutable {@link Problem} instances, without any JSON library and
+ * without building a generic tree model.
+ *
+ * <p>Standard members with a value of an unexpected type (e.g. a string {@code status}) or an
+ * invalid URI are ignored. A missing {@code type} defaults to {@link Problem#BLANK_TYPE}. All other
+ * members become extensions, with JSON objects read as {@link java.util.Map}s, arrays as {@link
+ * java.util.List}s, and numbers as {@link Integer}, {@link Long}, {@link java.math.BigInteger} or
+ * {@link Double}, whichever is the narrowest to hold the value. Extensions with {@code null} values
+ * are skipped, the same as by {@link ProblemBuilder}. For duplicate names the last value wins.
+ *
+ * <p>Inputs are bounded by limits on size, nesting depth, number of extensions and length of number
+ * literals, so that hostile payloads can't exhaust the heap or the CPU. Readers are immutable and thread-safe.
+ *
+ * <pre>{@code
+ * ProblemJsonReader reader = ProblemJsonReader.builder().maxSize(16 * 1024).build();
+ * Problem problem = reader.read(responseBody);
+ * }</pre>
+ */
+public interface ProblemJsonReader {
+
+  /** Default maximum input size, in bytes for binary input or in characters for text input. */
+  int DEFAULT_MAX_SIZE = 1024 * 1024;
+
+  /** Default maximum nesting depth of JSON objects and arrays, including the problem itself. */
+  int DEFAULT_MAX_DEPTH = 32;
+
+  /** Default maximum number of extension members. */
+  int DEFAULT_MAX_EXTENSIONS = 128;
+
+  /** Default maximum length of a number literal, in characters. */
+  int DEFAULT_MAX_NUMBER_LENGTH = 1000;
+
+  /**
+   * Creates a reader with default limits.
+   *
+   * @return new {@link ProblemJsonReader} instance
+   */
+  static ProblemJsonReader create() {
+    return builder().build();
+  }
+
+  /**
+   * Creates a builder to configure limits of a reader.
+   *
+   * @return new {@link ProblemJsonReaderBuilder} instance
+   */
+  static ProblemJsonReaderBuilder builder() {
+    return new ProblemJsonReaderBuilderImpl();
+  }
+
+  /**
+   * Parses UTF-8 encoded JSON.
+   *
+   * @param json the JSON bytes
+   * @return parsed problem
+   * @throws ProblemJsonException if the input is not a valid problem document or exceeds a limit
+   */
+  Problem read(byte[] json);
+
+  /**
+   * Parses UTF-8 encoded JSON from the remaining bytes of given buffer, which may be a direct one.
+   * The position of the buffer is advanced to its limit.
+   *
+   * @param json the buffer with JSON bytes
+   * @return parsed problem
+   * @throws ProblemJsonException if the input is not a valid problem document or exceeds a limit
+   */
+  Problem read(ByteBuffer json);
+
+  /**
+   * Parses JSON text.
+   *
+   * @param json the JSON characters
+   * @return parsed problem
+   * @throws ProblemJsonException if the input is not a valid problem document or exceeds a limit
+   */
+  Problem read(CharSequence json);
+
+  /**
+   * Parses UTF-8 encoded JSON read until the end of given stream. Reading stops as soon as the
+   * maximum size is exceeded. The stream is not closed.
+   *
+   * @param json the stream of JSON bytes
+   * @return parsed problem
+   * @throws IOException if reading from the stream fails
+   * @throws ProblemJsonException if the input is not a valid problem document or exceeds a limit
+   */
+  Problem read(InputStream json) throws IOException;
+
+  /**
+   * Validates UTF-8 encoded JSON and returns a problem backed by it. Only {@code type}, {@code
+   * status} and {@code instance} are parsed up front; {@code title}, {@code detail} and extension
+   * values are parsed when first requested. Useful when a problem is mostly passed along, e.g. by a
+   * proxy, as {@link ProblemJsonWriter} writes such problem to bytes by copying the original input.
+   *
+   * <p>The array is retained, not copied, so it must not be modified afterwards.
+   *
+   * @param json the JSON bytes
+   * @return problem backed by the input
+   * @throws ProblemJsonException if the input is not a valid problem document or exceeds a limit
+   */
+  Problem readLazily(byte[] json);
+
+  /**
+   * Creates an incremental parser for a body that arrives in chunks, with the limits of this
+   * reader.
+   *
+   * @return new {@link ProblemJsonPushParser} instance for a single body
+   */
+  ProblemJsonPushParser newPushParser();
+}
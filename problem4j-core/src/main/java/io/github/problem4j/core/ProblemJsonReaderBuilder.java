@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+/** Builder interface for constructing {@link ProblemJsonReader} instances. */
+public interface ProblemJsonReaderBuilder {
+
+  /**
+   * Sets the maximum input size, in bytes for binary input or in characters for text input.
+   * Defaults to {@link ProblemJsonReader#DEFAULT_MAX_SIZE}.
+   *
+   * @param maxSize the maximum size, must be positive
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if {@code maxSize} is not positive
+   */
+  ProblemJsonReaderBuilder maxSize(int maxSize);
+
+  /**
+   * Sets the maximum nesting depth of JSON objects and arrays, where the problem object itself has
+   * depth {@code 1}. Defaults to {@link ProblemJsonReader#DEFAULT_MAX_DEPTH}.
+   *
+   * @param maxDepth the maximum depth, must be positive
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if {@code maxDepth} is not positive
+   */
+  ProblemJsonReaderBuilder maxDepth(int maxDepth);
+
+  /**
+   * Sets the maximum number of extension members, including ones with {@code null} values and
+   * repeated names. Defaults to {@link ProblemJsonReader#DEFAULT_MAX_EXTENSIONS}.
+   *
+   * @param maxExtensions the maximum number of extensions, must not be negative
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if {@code maxExtensions} is negative
+   */
+  ProblemJsonReaderBuilder maxExtensions(int maxExtensions);
+
+  /**
+   * Sets the maximum length of a number literal, including its sign, fraction and exponent.
+   * Defaults to {@link ProblemJsonReader#DEFAULT_MAX_NUMBER_LENGTH}.
+   *
+   * @param maxNumberLength the maximum length, must be positive
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if {@code maxNumberLength} is not positive
+   */
+  ProblemJsonReaderBuilder maxNumberLength(int maxNumberLength);
+
+  /**
+   * Builds an immutable {@link ProblemJsonReader} with the configured limits.
+   *
+   * @return a new {@link ProblemJsonReader} instance
+   */
+  ProblemJsonReader build();
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+final class ProblemJsonReaderBuilderImpl implements ProblemJsonReaderBuilder {
+
+  private int maxSize = ProblemJsonReader.DEFAULT_MAX_SIZE;
+  private int maxDepth = ProblemJsonReader.DEFAULT_MAX_DEPTH;
+  private int maxExtensions = ProblemJsonReader.DEFAULT_MAX_EXTENSIONS;
+  private int maxNumberLength = ProblemJsonReader.DEFAULT_MAX_NUMBER_LENGTH;
+
+  ProblemJsonReaderBuilderImpl() {}
+
+  @Override
+  public ProblemJsonReaderBuilder maxSize(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive");
+    }
+    this.maxSize = maxSize;
+    return this;
+  }
+
+  @Override
+  public ProblemJsonReaderBuilder maxDepth(int maxDepth) {
+    if (maxDepth <= 0) {
+      throw new IllegalArgumentException("maxDepth must be positive");
+    }
+    this.maxDepth = maxDepth;
+    return this;
+  }
+
+  @Override
+  public ProblemJsonReaderBuilder maxExtensions(int maxExtensions) {
+    if (maxExtensions < 0) {
+      throw new IllegalArgumentException("maxExtensions cannot be negative");
+    }
+    this.maxExtensions = maxExtensions;
+    return this;
+  }
+
+  @Override
+  public ProblemJsonReaderBuilder maxNumberLength(int maxNumberLength) {
+    if (maxNumberLength <= 0) {
+      throw new IllegalArgumentException("maxNumberLength must be positive");
+    }
+    this.maxNumberLength = maxNumberLength;
+    return this;
+  }
+
+  @Override
+  public ProblemJsonReader build() {
+    return new ProblemJsonReaderImpl(
+        new ProblemJsonLimits(maxSize, maxDepth, maxExtensions, maxNumberLength));
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+final class ProblemJsonReaderImpl implements ProblemJsonReader {
+
+  private static final int READ_BUFFER_SIZE = 4096;
+
+  /** Largest array size that virtual machines reliably allocate. */
+  private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+  private final ProblemJsonLimits limits;
+
+  ProblemJsonReaderImpl(ProblemJsonLimits limits) {
+    this.limits = limits;
+  }
+
+  @Override
+  public Problem read(byte[] json) {
+    return ProblemJsonParser.of(json, 0, json.length, limits).parse();
+  }
+
+  @Override
+  public Problem read(ByteBuffer json) {
+    Problem problem = ProblemJsonParser.of(json, limits).parse();
+    json.position(json.limit());
+    return problem;
+  }
+
+  @Override
+  public Problem read(CharSequence json) {
+    return ProblemJsonParser.of(json, limits).parse();
+  }
+
+  @Override
+  public Problem read(InputStream json) throws IOException {
+    // one byte more than allowed, to detect inputs exceeding the limit
+    int capacity = (int) Math.min(limits.maxSize + 1L, MAX_ARRAY_SIZE);
+    byte[] buffer = new byte[Math.min(READ_BUFFER_SIZE, capacity)];
+    int length = 0;
+    int read;
+    while ((read = json.read(buffer, length, buffer.length - length)) >= 0) {
+      length += read;
+      limits.checkSize(length);
+      if (length == capacity) {
+        if (json.read() >= 0) {
+          throw new ProblemJsonException("Input exceeds maximum array size of " + capacity);
+        }
+        break;
+      }
+      if (length == buffer.length) {
+        buffer = Arrays.copyOf(buffer, (int) Math.min(buffer.length * 2L, capacity));
+      }
+    }
+    return ProblemJsonParser.of(buffer, 0, length, limits).parse();
+  }
+
+  @Override
+  public Problem readLazily(byte[] json) {
+    return RawJsonProblem.of(json, limits);
+  }
+
+  @Override
+  public ProblemJsonPushParser newPushParser() {
+    return new ProblemJsonPushParserImpl(limits);
+  }
+}
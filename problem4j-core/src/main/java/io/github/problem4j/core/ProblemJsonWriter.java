@@ -0,0 +1,457 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams {@link Problem} instances as {@code application/problem+json} (<a
+ * href="https://tools.ietf.org/html/rfc7807">RFC 7807</a>), without any JSON library.
+ *
+ * <p>Members are written in the order {@code type}, {@code title}, {@code status}, {@code detail},
+ * {@code instance}, followed by extensions in their iteration order. Absent members, {@code 0}
+ * status and {@code null} extension values are skipped, as are extensions named the same as a
+ * standard member, so that the output never contains duplicate names. Strings are escaped inline,
+ * while being appended, so no intermediate strings are created.
+ *
+ * <p>Extension values are written as follows:
+ *
+ * <ul>
+ *   <li>{@link CharSequence} - as a string,
+ *   <li>{@link Boolean} - as a literal,
+ *   <li>{@link Integer}, {@link Long}, {@link Short}, {@link Byte}, {@link BigInteger}, {@link
+ *       BigDecimal}, {@link AtomicInteger}, {@link AtomicLong} and finite {@link Double} and {@link
+ *       Float} values - as a number, any other {@link Number} - as a string of its {@link
+ *       Object#toString()},
+ *   <li>{@link Map} - as an object, with {@link String#valueOf(Object)} of keys as names,
+ *   <li>{@link Iterable}, arrays - as an array,
+ *   <li>{@link Problem} - as a nested problem object,
+ *   <li>any other value - as a string of its {@link Object#toString()}.
+ * </ul>
+ *
+ * <p>Byte output of problems returned by {@link ProblemJsonReader#readLazily(byte[])} is a copy of
+ * the input they were read from, which is not normalized to the rules above.
+ */
+public final class ProblemJsonWriter {
+
+  /** Maximum nesting depth of extension values, guarding against cyclic structures. */
+  public static final int MAX_NESTING_DEPTH = 64;
+
+  private static final int OUTPUT_BUFFER_SIZE = 512;
+
+  private ProblemJsonWriter() {}
+
+  /**
+   * Renders the problem as JSON.
+   *
+   * @param problem the problem to render, must not be {@code null}
+   * @return JSON representation of the problem
+   * @throws IllegalArgumentException if an extension value is nested deeper than {@link
+   *     #MAX_NESTING_DEPTH}
+   */
+  public static String toJson(Problem problem) {
+    StringBuilder result = new StringBuilder(128);
+    try {
+      write(problem, (Appendable) result);
+    } catch (IOException e) {
+      // StringBuilder never throws
+      throw new UncheckedIOException(e);
+    }
+    return result.toString();
+  }
+
+  /**
+   * Writes the problem as JSON to given {@link Appendable}.
+   *
+   * @param problem the problem to write, must not be {@code null}
+   * @param out the destination to append to
+   * @throws IOException if appending to {@code out} fails
+   * @throws IllegalArgumentException if an extension value is nested deeper than {@link
+   *     #MAX_NESTING_DEPTH}
+   */
+  public static void write(Problem problem, Appendable out) throws IOException {
+    writeProblem(problem, out, 0);
+  }
+
+  /**
+   * Writes the problem as JSON to given {@link Writer}. The writer is neither flushed nor closed.
+   *
+   * @param problem the problem to write, must not be {@code null}
+   * @param out the writer to write to
+   * @throws IOException if writing to {@code out} fails
+   * @throws IllegalArgumentException if an extension value is nested deeper than {@link
+   *     #MAX_NESTING_DEPTH}
+   */
+  public static void write(Problem problem, Writer out) throws IOException {
+    writeProblem(problem, out, 0);
+  }
+
+  /**
+   * Writes the problem as UTF-8 encoded JSON to given {@link OutputStream}. Characters are encoded
+   * while being written, through a small buffer. Problems returned by {@link
+   * Problem#of(ProblemStatus)} are written from their pre-encoded bytes, and problems returned by
+   * {@link ProblemJsonReader#readLazily(byte[])} from their original input. The stream is neither
+   * flushed nor closed.
+   *
+   * @param problem the problem to write, must not be {@code null}
+   * @param out the stream to write to
+   * @throws IOException if writing to {@code out} fails
+   * @throws IllegalArgumentException if an extension value is nested deeper than {@link
+   *     #MAX_NESTING_DEPTH}
+   */
+  public static void write(Problem problem, OutputStream out) throws IOException {
+    byte[] encoded = encoded(problem);
+    if (encoded != null) {
+      out.write(encoded);
+      return;
+    }
+    OutputStreamAppendable appendable = new OutputStreamAppendable(out);
+    writeProblem(problem, appendable, 0);
+    appendable.finish();
+  }
+
+  /**
+   * Computes the exact number of bytes of the UTF-8 encoded JSON of the problem, without encoding
+   * it into memory. Useful to allocate a buffer (e.g. a direct one) for {@link #write(Problem,
+   * ByteBuffer)} or to set {@code Content-Length} up front.
+   *
+   * @param problem the problem to measure, must not be {@code null}
+   * @return number of bytes written by {@link #write(Problem, ByteBuffer)} for this problem
+   * @throws IllegalArgumentException if an extension value is nested deeper than {@link
+   *     #MAX_NESTING_DEPTH}
+   */
+  public static int encodedLength(Problem problem) {
+    byte[] encoded = encoded(problem);
+    if (encoded != null) {
+      return encoded.length;
+    }
+    CountingAppendable counter = new CountingAppendable();
+    try {
+      writeProblem(problem, counter, 0);
+      counter.finish();
+    } catch (IOException e) {
+      // counting never throws
+      throw new UncheckedIOException(e);
+    }
+    return counter.count;
+  }
+
+  /**
+   * Writes the problem as UTF-8 encoded JSON into given buffer, starting at its position. The
+   * characters are encoded directly into the buffer, which may be a direct one, so it can be handed
+   * to a {@link java.nio.channels.WritableByteChannel} without further copying.
+   *
+   * <p>If the buffer has not enough space, its position is restored and {@link
+   * BufferOverflowException} is thrown. Use {@link #encodedLength(Problem)} to size the buffer. The
+   * position is restored as well if the problem cannot be written.
+   *
+   * @param problem the problem to write, must not be {@code null}
+   * @param buffer the buffer to write to; its position is advanced by the number of bytes written
+   * @return number of bytes written
+   * @throws BufferOverflowException if the remaining space of the buffer is not sufficient
+   * @throws IllegalArgumentException if an extension value is nested deeper than {@link
+   *     #MAX_NESTING_DEPTH}
+   */
+  public static int write(Problem problem, ByteBuffer buffer) {
+    int start = buffer.position();
+    try {
+      byte[] encoded = encoded(problem);
+      if (encoded != null) {
+        buffer.put(encoded);
+      } else {
+        ByteBufferAppendable appendable = new ByteBufferAppendable(buffer);
+        writeProblem(problem, appendable, 0);
+        appendable.finish();
+      }
+    } catch (BufferOverflowException | IllegalArgumentException e) {
+      buffer.position(start);
+      throw e;
+    } catch (IOException e) {
+      // ByteBuffer never throws IOException
+      throw new UncheckedIOException(e);
+    }
+    return buffer.position() - start;
+  }
+
+  /**
+   * Encodes the problem as UTF-8 JSON into a new heap buffer of the exact size.
+   *
+   * @param problem the problem to encode, must not be {@code null}
+   * @return a buffer with the encoded problem, ready to be read
+   * @throws IllegalArgumentException if an extension value is nested deeper than {@link
+   *     #MAX_NESTING_DEPTH}
+   */
+  public static ByteBuffer toByteBuffer(Problem problem) {
+    ByteBuffer buffer = ByteBuffer.allocate(encodedLength(problem));
+    write(problem, buffer);
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * Returns the bytes kept by problems returned by {@link Problem#of(ProblemStatus)} and {@link
+   * ProblemJsonReader#readLazily(byte[])}, which are written as they are.
+   *
+   * @param problem the problem to write
+   * @return UTF-8 encoded JSON of the problem, or {@code null} if it has to be encoded
+   */
+  private static byte[] encoded(Problem problem) {
+    if (problem instanceof CanonicalProblem) {
+      return ((CanonicalProblem) problem).json();
+    }
+    if (problem instanceof RawJsonProblem) {
+      return ((RawJsonProblem) problem).json();
+    }
+    return null;
+  }
+
+  private static void writeProblem(Problem problem, Appendable out, int depth) throws IOException {
+    out.append('{');
+    boolean first = true;
+    URI type = problem.getType();
+    if (type != null) {
+      first = writeName("type", out, first);
+      writeString(type.toString(), out);
+    }
+    String title = problem.getTitle();
+    if (title != null) {
+      first = writeName("title", out, first);
+      writeString(title, out);
+    }
+    if (problem.getStatus() != 0) {
+      first = writeName("status", out, first);
+      out.append(Integer.toString(problem.getStatus()));
+    }
+    String detail = problem.getDetail();
+    if (detail != null) {
+      first = writeName("detail", out, first);
+      writeString(detail, out);
+    }
+    URI instance = problem.getInstance();
+    if (instance != null) {
+      first = writeName("instance", out, first);
+      writeString(instance.toString(), out);
+    }
+
+    Map<String, Object> extensions = problem.getExtensionMembers();
+    if (extensions instanceof ProblemExtensions) {
+      Object[] entries = ((ProblemExtensions) extensions).entries();
+      for (int i = 0; i < extensions.size(); i++) {
+        first = writeExtension((String) entries[i * 2], entries[i * 2 + 1], out, first, depth);
+      }
+    } else {
+      for (Map.Entry<String, Object> entry : extensions.entrySet()) {
+        first = writeExtension(entry.getKey(), entry.getValue(), out, first, depth);
+      }
+    }
+    out.append('}');
+  }
+
+  private static boolean writeExtension(
+      String name, Object value, Appendable out, boolean first, int depth) throws IOException {
+    if (name == null || value == null || isStandardMember(name)) {
+      return first;
+    }
+    writeName(name, out, first);
+    writeValue(value, out, depth + 1);
+    return false;
+  }
+
+  /**
+   * Checks whether the name is one of RFC 7807 members written from {@link Problem} getters.
+   *
+   * @param name the member name
+   * @return {@code true} for {@code type}, {@code title}, {@code status}, {@code detail} and {@code
+   *     instance}
+   */
+  static boolean isStandardMember(String name) {
+    switch (name) {
+      case "type":
+      case "title":
+      case "status":
+      case "detail":
+      case "instance":
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /** Writes the member name, preceded by a comma unless it's the first member. */
+  private static boolean writeName(String name, Appendable out, boolean first) throws IOException {
+    if (!first) {
+      out.append(',');
+    }
+    writeString(name, out);
+    out.append(':');
+    return false;
+  }
+
+  private static void writeString(CharSequence value, Appendable out) throws IOException {
+    out.append('"');
+    JsonEscape.escape(value, out);
+    out.append('"');
+  }
+
+  private static void writeValue(Object value, Appendable out, int depth) throws IOException {
+    if (depth > MAX_NESTING_DEPTH) {
+      throw new IllegalArgumentException(
+          "Extension value nested deeper than " + MAX_NESTING_DEPTH + " levels");
+    }
+    if (value == null) {
+      out.append("null");
+    } else if (value instanceof CharSequence) {
+      writeString((CharSequence) value, out);
+    } else if (value instanceof Boolean) {
+      out.append(value.toString());
+    } else if (value instanceof Number) {
+      writeNumber((Number) value, out);
+    } else if (value instanceof Map) {
+      writeObject((Map<?, ?>) value, out, depth);
+    } else if (value instanceof Iterable) {
+      out.append('[');
+      boolean first = true;
+      for (Object element : (Iterable<?>) value) {
+        if (!first) {
+          out.append(',');
+        }
+        first = false;
+        writeValue(element, out, depth + 1);
+      }
+      out.append(']');
+    } else if (value.getClass().isArray()) {
+      out.append('[');
+      int length = Array.getLength(value);
+      for (int i = 0; i < length; i++) {
+        if (i > 0) {
+          out.append(',');
+        }
+        writeValue(Array.get(value, i), out, depth + 1);
+      }
+      out.append(']');
+    } else if (value instanceof Problem) {
+      writeProblem((Problem) value, out, depth);
+    } else {
+      writeString(value.toString(), out);
+    }
+  }
+
+  /**
+   * Writes numbers of known types as JSON numbers. Non-finite floating-point values and numbers of
+   * other types, whose {@code toString()} may not be a valid JSON number, are written as strings.
+   */
+  private static void writeNumber(Number value, Appendable out) throws IOException {
+    if (isJsonNumber(value)) {
+      out.append(value.toString());
+    } else {
+      writeString(String.valueOf(value), out);
+    }
+  }
+
+  private static boolean isJsonNumber(Number value) {
+    if (value instanceof Double) {
+      return Double.isFinite(value.doubleValue());
+    }
+    if (value instanceof Float) {
+      return Float.isFinite(value.floatValue());
+    }
+    return value instanceof Integer
+        || value instanceof Long
+        || value instanceof Short
+        || value instanceof Byte
+        || value instanceof BigInteger
+        || value instanceof BigDecimal
+        || value instanceof AtomicInteger
+        || value instanceof AtomicLong;
+  }
+
+  private static void writeObject(Map<?, ?> map, Appendable out, int depth) throws IOException {
+    out.append('{');
+    boolean first = true;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      first = writeName(String.valueOf(entry.getKey()), out, first);
+      writeValue(entry.getValue(), out, depth + 1);
+    }
+    out.append('}');
+  }
+
+  /** Encodes characters to UTF-8 into a small buffer, drained to an {@link OutputStream}. */
+  private static final class OutputStreamAppendable extends Utf8Appendable {
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[OUTPUT_BUFFER_SIZE];
+    private int position;
+
+    private OutputStreamAppendable(OutputStream out) {
+      this.out = out;
+    }
+
+    @Override
+    void writeByte(int b) throws IOException {
+      if (position == buffer.length) {
+        out.write(buffer, 0, position);
+        position = 0;
+      }
+      buffer[position++] = (byte) b;
+    }
+
+    @Override
+    void finish() throws IOException {
+      super.finish();
+      if (position > 0) {
+        out.write(buffer, 0, position);
+        position = 0;
+      }
+    }
+  }
+
+  /** Counts bytes of UTF-8 encoded characters, without storing them. */
+  private static final class CountingAppendable extends Utf8Appendable {
+
+    private int count;
+
+    @Override
+    void writeByte(int b) {
+      count++;
+    }
+  }
+
+  /** Encodes characters to UTF-8 directly into a {@link ByteBuffer}. */
+  private static final class ByteBufferAppendable extends Utf8Appendable {
+
+    private final ByteBuffer buffer;
+
+    private ByteBufferAppendable(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    void writeByte(int b) {
+      buffer.put((byte) b);
+    }
+  }
+}
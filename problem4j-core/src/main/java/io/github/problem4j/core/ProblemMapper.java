@@ -14,6 +14,9 @@
  */
 package io.github.problem4j.core;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Converts exceptions annotated with {@link ProblemMapping} into {@link ProblemBuilder} instances,
  * which can be further extended or executed to create {@code Problem} response.
@@ -41,12 +44,26 @@ public interface ProblemMapper {
    * Creates a default {@link ProblemMapper} instance. The returned mapper provides the standard
    * mapping behavior defined by this library.
    *
+   * <p>Mappers generated at compile time by {@code problem4j-core-processor} are discovered through
+   * {@link java.util.ServiceLoader} and used for their exception classes. All other exceptions are
+   * mapped through reflection by {@link AbstractProblemMapper}.
+   *
    * @return a new {@link ProblemMapper} instance
    */
   static ProblemMapper create() {
     return new ProblemMapperImpl();
   }
 
+  /**
+   * Creates a {@link ProblemMapperBuilder} for configuring a {@link ProblemMapper} with eagerly
+   * registered exception classes.
+   *
+   * @return a new {@link ProblemMapperBuilder} instance
+   */
+  static ProblemMapperBuilder builder() {
+    return new ProblemMapperBuilderImpl();
+  }
+
   /**
    * Convert {@link Throwable} -> {@link ProblemBuilder} according to its {@link ProblemMapping}
    * annotation. Such builder can be further extended or executed to create {@code Problem}
@@ -70,6 +87,90 @@ static ProblemMapper create() {
    */
   ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context);
 
+  /**
+   * Convert {@link Throwable} -> {@link ProblemBuilder} if this mapper can map it, or return {@code
+   * null} otherwise. Unlike {@link #toProblemBuilder(Throwable)}, no empty builder is created for
+   * exceptions that are not mapping candidates.
+   *
+   * @param t {@link Throwable} to convert (may be {@code null})
+   * @return a {@link ProblemBuilder} instance, or {@code null} if {@code t} is not a mapping
+   *     candidate
+   * @throws ProblemMappingException when something goes wrong while building the Problem
+   */
+  default ProblemBuilder tryMap(Throwable t) {
+    return tryMap(t, null);
+  }
+
+  /**
+   * Convert {@link Throwable} -> {@link ProblemBuilder} if this mapper can map it, or return {@code
+   * null} otherwise. Unlike {@link #toProblemBuilder(Throwable, ProblemContext)}, no empty builder
+   * is created for exceptions that are not mapping candidates.
+   *
+   * @param t {@link Throwable} to convert (may be {@code null})
+   * @param context optional {@link ProblemContext} (may be {@code null})
+   * @return a {@link ProblemBuilder} instance, or {@code null} if {@code t} is not a mapping
+   *     candidate
+   * @throws ProblemMappingException when something goes wrong while building the Problem
+   */
+  default ProblemBuilder tryMap(Throwable t, ProblemContext context) {
+    return isMappingCandidate(t) ? toProblemBuilder(t, context) : null;
+  }
+
+  /**
+   * Convert each of given throwables into a {@link Problem}, in the same order.
+   *
+   * @param throwables throwables to convert (elements may be {@code null})
+   * @return unmodifiable list of problems, one for each throwable
+   * @throws ProblemMappingException when something goes wrong while building any of the Problems
+   */
+  default List<Problem> toProblems(Collection<? extends Throwable> throwables) {
+    return toProblems(throwables, null);
+  }
+
+  /**
+   * Convert each of given throwables into a {@link Problem}, in the same order. The same context
+   * is used for all throwables.
+   *
+   * @param throwables throwables to convert (elements may be {@code null})
+   * @param context optional {@link ProblemContext} (may be {@code null})
+   * @return unmodifiable list of problems, one for each throwable
+   * @throws ProblemMappingException when something goes wrong while building any of the Problems
+   */
+  default List<Problem> toProblems(
+      Collection<? extends Throwable> throwables, ProblemContext context) {
+    return ProblemBatch.map(this, throwables, context);
+  }
+
+  /**
+   * Convert each of given throwables into a {@link Problem}, in the same order, using all available
+   * cores of the common {@link java.util.concurrent.ForkJoinPool} for large inputs.
+   *
+   * @param throwables throwables to convert (elements may be {@code null})
+   * @return unmodifiable list of problems, one for each throwable
+   * @throws ProblemMappingException when something goes wrong while building any of the Problems
+   */
+  default List<Problem> toProblemsParallel(Collection<? extends Throwable> throwables) {
+    return toProblemsParallel(throwables, null);
+  }
+
+  /**
+   * Convert each of given throwables into a {@link Problem}, in the same order, using all available
+   * cores of the common {@link java.util.concurrent.ForkJoinPool} for large inputs. Small inputs
+   * are converted sequentially.
+   *
+   * <p>The same context is read concurrently by all threads, so it must not be modified until this
+   * method returns.
+   *
+   * @param throwables throwables to convert (elements may be {@code null})
+   * @param context optional {@link ProblemContext} (may be {@code null})
+   * @return unmodifiable list of problems, one for each throwable
+   * @throws ProblemMappingException when something goes wrong while building any of the Problems
+   */
+  default List<Problem> toProblemsParallel(
+      Collection<? extends Throwable> throwables, ProblemContext context) {
+    return ProblemBatch.mapParallel(this, throwables, context);
+  }
+
   /**
    * Checks whether the given exception class is annotated with {@link ProblemMapping}.
    *
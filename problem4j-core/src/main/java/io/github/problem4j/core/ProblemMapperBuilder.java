@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.util.Collection;
+
+/**
+ * Builder interface for constructing {@link ProblemMapper} instances.
+ *
+ * <p>Exception classes registered in the builder have their {@link ProblemMapping} annotations
+ * compiled and validated when {@link #build()} is called, instead of on the first mapped exception.
+ * This moves the cost of class introspection to application startup and reports invalid mappings
+ * before they are used.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * ProblemMapper mapper =
+ *     ProblemMapper.builder()
+ *         .register(OrderNotFoundException.class)
+ *         .register(PaymentFailedException.class)
+ *         .discoverMappings()
+ *         .build();
+ * }</pre>
+ */
+public interface ProblemMapperBuilder {
+
+  /**
+   * Registers an exception class to be compiled and validated eagerly.
+   *
+   * @param type exception class annotated with {@link ProblemMapping}
+   * @return this builder instance for chaining
+   */
+  ProblemMapperBuilder register(Class<? extends Throwable> type);
+
+  /**
+   * Registers exception classes to be compiled and validated eagerly.
+   *
+   * @param types exception classes annotated with {@link ProblemMapping}
+   * @return this builder instance for chaining
+   */
+  ProblemMapperBuilder register(Collection<? extends Class<? extends Throwable>> types);
+
+  /**
+   * Registers all exception classes listed in the index generated by {@code
+   * problem4j-core-processor}, found through the context class loader of the current thread.
+   *
+   * @return this builder instance for chaining
+   */
+  ProblemMapperBuilder discoverMappings();
+
+  /**
+   * Registers all exception classes listed in the index generated by {@code
+   * problem4j-core-processor}, found through given class loader.
+   *
+   * @param classLoader the class loader to read the index and load classes from
+   * @return this builder instance for chaining
+   */
+  ProblemMapperBuilder discoverMappings(ClassLoader classLoader);
+
+  /**
+   * Sets the registry of mappings declared in code, used for exceptions that cannot be annotated.
+   * The registry is consulted only for classes without {@link ProblemMapping} annotation, so that a
+   * mapping registered for a common supertype does not override annotated exceptions.
+   *
+   * @param registry the registry to use (may be {@code null} to use annotations only)
+   * @return this builder instance for chaining
+   */
+  ProblemMapperBuilder registry(ProblemMappingRegistry registry);
+
+  /**
+   * Sets the listener notified about each mapped exception, for example {@link
+   * ProblemMapperStatistics}.
+   *
+   * @param listener the listener (may be {@code null} to disable notifications)
+   * @return this builder instance for chaining
+   */
+  ProblemMapperBuilder listener(ProblemMapperListener listener);
+
+  /**
+   * Enables mapping of the first mappable cause of exceptions that cannot be mapped themselves,
+   * such as {@link java.util.concurrent.CompletionException} wrapping an annotated exception.
+   *
+   * @param maxDepth how many levels of causes to search, {@code 0} disables searching (default)
+   * @return this builder instance for chaining
+   * @throws IllegalArgumentException if {@code maxDepth} is negative
+   */
+  ProblemMapperBuilder unwrapCauses(int maxDepth);
+
+  /**
+   * Sets whether suppressed exceptions are searched along with causes, see {@link
+   * #unwrapCauses(int)}. Disabled by default.
+   *
+   * @param includeSuppressed {@code true} to search suppressed exceptions
+   * @return this builder instance for chaining
+   */
+  ProblemMapperBuilder unwrapSuppressed(boolean includeSuppressed);
+
+  /**
+   * Sets the mapper for exceptions that are neither annotated nor registered. The built mapper is
+   * then a {@link CompositeProblemMapper}, trying generated mappers, annotations and registry
+   * first.
+   *
+   * <p>The fallback is used only if no cause could be mapped either, see {@link
+   * #unwrapCauses(int)}.
+   *
+   * @param fallback the fallback mapper (may be {@code null} to leave such exceptions unmapped)
+   * @return this builder instance for chaining
+   */
+  ProblemMapperBuilder fallback(ProblemMapper fallback);
+
+  /**
+   * Builds the {@link ProblemMapper}, compiling mapping plans of all registered classes in
+   * parallel.
+   *
+   * @return a new {@link ProblemMapper} instance
+   * @throws ProblemMappingException if any registered class has neither {@link ProblemMapping}
+   *     annotation nor mapping in the {@link #registry(ProblemMappingRegistry)}, declares an
+   *     invalid constant URI, refers to a field it does not have, or could not be discovered
+   */
+  ProblemMapper build();
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+final class ProblemMapperBuilderImpl implements ProblemMapperBuilder {
+
+  /** Index of classes annotated with {@link ProblemMapping}, written by annotation processor. */
+  static final String MAPPINGS_INDEX = "META-INF/problem4j/problem-mappings";
+
+  private final Set<Class<?>> types = new LinkedHashSet<>();
+  private final List<String> errors = new ArrayList<>();
+  private ProblemMappingRegistry registry;
+  private ProblemMapperListener listener;
+  private int causeDepth = 0;
+  private boolean includeSuppressed = false;
+  private ProblemMapper fallback;
+
+  ProblemMapperBuilderImpl() {}
+
+  @Override
+  public ProblemMapperBuilder register(Class<? extends Throwable> type) {
+    if (type != null) {
+      types.add(type);
+    }
+    return this;
+  }
+
+  @Override
+  public ProblemMapperBuilder register(Collection<? extends Class<? extends Throwable>> types) {
+    for (Class<? extends Throwable> type : types) {
+      register(type);
+    }
+    return this;
+  }
+
+  @Override
+  public ProblemMapperBuilder discoverMappings() {
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    return discoverMappings(
+        classLoader != null ? classLoader : ProblemMapperBuilderImpl.class.getClassLoader());
+  }
+
+  @Override
+  public ProblemMapperBuilder discoverMappings(ClassLoader classLoader) {
+    Set<String> names = new LinkedHashSet<>();
+    try {
+      Enumeration<URL> indexes = classLoader.getResources(MAPPINGS_INDEX);
+      while (indexes.hasMoreElements()) {
+        readIndex(indexes.nextElement(), names);
+      }
+    } catch (IOException e) {
+      errors.add("failed to read " + MAPPINGS_INDEX + ": " + e.getMessage());
+    }
+
+    for (String name : names) {
+      try {
+        types.add(Class.forName(name, false, classLoader));
+      } catch (ClassNotFoundException | LinkageError e) {
+        errors.add(name + ": failed to load class: " + e);
+      }
+    }
+    return this;
+  }
+
+  private static void readIndex(URL index, Set<String> names) throws IOException {
+    try (InputStream input = index.openStream();
+        BufferedReader reader =
+            new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.trim();
+        if (!line.isEmpty() && !line.startsWith("#")) {
+          names.add(line);
+        }
+      }
+    }
+  }
+
+  @Override
+  public ProblemMapperBuilder registry(ProblemMappingRegistry registry) {
+    this.registry = registry;
+    return this;
+  }
+
+  @Override
+  public ProblemMapperBuilder listener(ProblemMapperListener listener) {
+    this.listener = listener;
+    return this;
+  }
+
+  @Override
+  public ProblemMapperBuilder unwrapCauses(int maxDepth) {
+    if (maxDepth < 0) {
+      throw new IllegalArgumentException("maxDepth must not be negative");
+    }
+    this.causeDepth = maxDepth;
+    return this;
+  }
+
+  @Override
+  public ProblemMapperBuilder unwrapSuppressed(boolean includeSuppressed) {
+    this.includeSuppressed = includeSuppressed;
+    return this;
+  }
+
+  @Override
+  public ProblemMapperBuilder fallback(ProblemMapper fallback) {
+    this.fallback = fallback;
+    return this;
+  }
+
+  @Override
+  public ProblemMapper build() {
+    ProblemMapperImpl mapper = new ProblemMapperImpl(registry, listener);
+
+    List<String> errors = new ArrayList<>(this.errors);
+    errors.addAll(
+        types.parallelStream()
+            .flatMap(type -> mapper.preparePlan(type).validate(type).stream())
+            .collect(Collectors.toList()));
+
+    if (!errors.isEmpty()) {
+      throw new ProblemMappingException(
+          "Invalid @ProblemMapping configuration:\n - " + String.join("\n - ", errors));
+    }
+    ProblemMapper result = mapper;
+    if (causeDepth > 0) {
+      result = new CauseChainProblemMapper(result, causeDepth, includeSuppressed);
+    }
+    return fallback != null ? new CompositeProblemMapper(result, fallback) : result;
+  }
+}
@@ -1,8 +1,96 @@
 package io.github.problem4j.core;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
 final class ProblemMapperImpl extends AbstractProblemMapper {
 
+  private final Map<Class<?>, GeneratedProblemMapper<?>> generatedMappers;
+  private final ProblemMappingRegistry registry;
+
   ProblemMapperImpl() {
-    super();
+    this(null, null);
+  }
+
+  ProblemMapperImpl(ProblemMappingRegistry registry, ProblemMapperListener listener) {
+    super(listener);
+    this.generatedMappers = loadGeneratedMappers();
+    this.registry = registry;
+  }
+
+  @Override
+  public ProblemBuilder tryMap(Throwable t, ProblemContext context) {
+    GeneratedProblemMapper<?> generated = findGeneratedMapper(t);
+    if (generated == null) {
+      return super.tryMap(t, context);
+    }
+    ProblemMapperListener listener = getListener();
+    if (listener == null) {
+      return generated.tryMap(t, context);
+    }
+
+    Class<? extends Throwable> type = t.getClass();
+    listener.mappingStarted(type);
+    long start = System.nanoTime();
+    try {
+      ProblemBuilder builder = generated.tryMap(t, context);
+      listener.mappingFinished(type, true, true, System.nanoTime() - start);
+      return builder;
+    } catch (RuntimeException e) {
+      listener.mappingFailed(type, e, System.nanoTime() - start);
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean isMappingCandidate(Throwable t) {
+    return findGeneratedMapper(t) != null || super.isMappingCandidate(t);
+  }
+
+  /**
+   * Returns the {@link ProblemMapping} annotation of the class, falling back to the mapping
+   * registered in code for the class or its nearest supertype.
+   */
+  @Override
+  protected ProblemMapping findAnnotation(Class<?> clazz) {
+    ProblemMapping mapping = super.findAnnotation(clazz);
+    if (mapping == null && registry != null) {
+      mapping = registry.find(clazz);
+    }
+    return mapping;
+  }
+
+  private GeneratedProblemMapper<?> findGeneratedMapper(Throwable t) {
+    if (t == null || generatedMappers.isEmpty()) {
+      return null;
+    }
+    return generatedMappers.get(t.getClass());
+  }
+
+  /**
+   * Loads mappers generated by {@code problem4j-core-processor}. Providers that fail to load are
+   * skipped, so that their exceptions fall back to reflection-based mapping.
+   */
+  @SuppressWarnings("rawtypes")
+  private static Map<Class<?>, GeneratedProblemMapper<?>> loadGeneratedMappers() {
+    Map<Class<?>, GeneratedProblemMapper<?>> mappers = new IdentityHashMap<>();
+    Iterator<GeneratedProblemMapper> iterator =
+        ServiceLoader.load(GeneratedProblemMapper.class).iterator();
+    while (true) {
+      try {
+        if (!iterator.hasNext()) {
+          break;
+        }
+        GeneratedProblemMapper<?> mapper = iterator.next();
+        mappers.put(mapper.getMappedClass(), mapper);
+      } catch (ServiceConfigurationError ignored) {
+        // ignored - broken provider falls back to reflection-based mapping
+      }
+    }
+    return mappers.isEmpty() ? Collections.emptyMap() : mappers;
   }
 }
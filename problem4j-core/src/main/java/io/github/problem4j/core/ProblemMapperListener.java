@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+/**
+ * Listener notified about each exception mapped by {@link AbstractProblemMapper}, for example to
+ * collect metrics. See {@link ProblemMapperStatistics} for a built-in implementation.
+ *
+ * <p>Methods are invoked synchronously on the mapping thread, possibly by many threads at once, so
+ * implementations must be thread-safe and fast. Mappers without a listener skip all notifications
+ * and time measurements.
+ */
+public interface ProblemMapperListener {
+
+  /**
+   * Invoked before an exception is mapped.
+   *
+   * @param type the exception class
+   */
+  default void mappingStarted(Class<? extends Throwable> type) {}
+
+  /**
+   * Invoked after an exception was mapped, or found to have no mapping.
+   *
+   * @param type the exception class
+   * @param mapped {@code true} if the class has a mapping, {@code false} otherwise
+   * @param cachedPlan {@code true} if the mapping of the class was already compiled and cached
+   * @param interpolationNanos time spent on interpolating values into the builder, in nanoseconds
+   */
+  default void mappingFinished(
+      Class<? extends Throwable> type,
+      boolean mapped,
+      boolean cachedPlan,
+      long interpolationNanos) {}
+
+  /**
+   * Invoked when mapping of an exception failed.
+   *
+   * @param type the exception class
+   * @param error the failure, about to be thrown to the caller
+   * @param interpolationNanos time spent until the failure, in nanoseconds
+   */
+  default void mappingFailed(
+      Class<? extends Throwable> type, RuntimeException error, long interpolationNanos) {}
+}
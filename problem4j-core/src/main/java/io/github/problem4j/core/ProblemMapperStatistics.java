@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ProblemMapperListener} keeping counters and a coarse latency histogram per exception
+ * class.
+ *
+ * <p>All counters are {@link LongAdder}s, so recording does not block under contention. Counters
+ * of a class are created on its first mapping and attached to the class through a {@link
+ * ClassValue}, without referencing the class strongly, so they don't keep class loaders of
+ * redeployed applications alive. Use {@link #snapshot()} to read current values of classes that
+ * are still loaded.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * ProblemMapperStatistics statistics = new ProblemMapperStatistics();
+ * ProblemMapper mapper = ProblemMapper.builder().listener(statistics).build();
+ * ...
+ * statistics.snapshot().forEach((type, stats) -> log.info("{}: {}", type.getName(), stats));
+ * }</pre>
+ */
+public final class ProblemMapperStatistics implements ProblemMapperListener {
+
+  /** Upper bounds (inclusive) of latency histogram buckets, in nanoseconds. */
+  private static final long[] BUCKET_BOUNDS = {1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L};
+
+  private volatile State state = new State();
+
+  /** Creates an empty statistics instance. */
+  public ProblemMapperStatistics() {}
+
+  /**
+   * Returns upper bounds of latency histogram buckets, in nanoseconds. The histogram has one more
+   * bucket for latencies above the last bound.
+   *
+   * @return upper bounds (inclusive) of histogram buckets
+   */
+  public static long[] getBucketBoundsNanos() {
+    return BUCKET_BOUNDS.clone();
+  }
+
+  @Override
+  public void mappingFinished(
+      Class<? extends Throwable> type,
+      boolean mapped,
+      boolean cachedPlan,
+      long interpolationNanos) {
+    Counters counters = countersOf(type);
+    counters.mappings.increment();
+    if (!mapped) {
+      counters.unmapped.increment();
+    }
+    if (!cachedPlan) {
+      counters.planMisses.increment();
+    }
+    if (mapped) {
+      counters.record(interpolationNanos);
+    }
+  }
+
+  @Override
+  public void mappingFailed(
+      Class<? extends Throwable> type, RuntimeException error, long interpolationNanos) {
+    Counters counters = countersOf(type);
+    counters.mappings.increment();
+    counters.failures.increment();
+    counters.record(interpolationNanos);
+  }
+
+  private Counters countersOf(Class<?> type) {
+    return state.counters.get(type);
+  }
+
+  /**
+   * Returns current values of all counters. Values of different counters are read one by one, so
+   * under concurrent mapping they may not be consistent with each other.
+   *
+   * @return unmodifiable map of statistics by exception class
+   */
+  public Map<Class<?>, Snapshot> snapshot() {
+    State state = this.state;
+    Map<Class<?>, Snapshot> result = new LinkedHashMap<>();
+    for (Iterator<Registration> it = state.registrations.iterator(); it.hasNext(); ) {
+      Registration registration = it.next();
+      Class<?> type = registration.type.get();
+      if (type == null || state.counters.get(type) != registration.counters) {
+        // class unloaded, or counters lost a race in ClassValue.computeValue
+        it.remove();
+      } else {
+        result.put(type, registration.counters.snapshot());
+      }
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  /** Removes all counters. */
+  public void reset() {
+    state = new State();
+  }
+
+  /** Counters by class, replaced as a whole on {@link #reset()}. */
+  private static final class State {
+
+    private final Queue<Registration> registrations = new ConcurrentLinkedQueue<>();
+
+    private final ClassValue<Counters> counters =
+        new ClassValue<Counters>() {
+          @Override
+          protected Counters computeValue(Class<?> type) {
+            Counters counters = new Counters();
+            registrations.add(new Registration(type, counters));
+            return counters;
+          }
+        };
+  }
+
+  /** Counters of a class, listed for {@link #snapshot()} without keeping the class reachable. */
+  private static final class Registration {
+
+    private final WeakReference<Class<?>> type;
+    private final Counters counters;
+
+    private Registration(Class<?> type, Counters counters) {
+      this.type = new WeakReference<>(type);
+      this.counters = counters;
+    }
+  }
+
+  private static final class Counters {
+
+    private final LongAdder mappings = new LongAdder();
+    private final LongAdder unmapped = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder planMisses = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] histogram = new LongAdder[BUCKET_BOUNDS.length + 1];
+
+    private Counters() {
+      for (int i = 0; i < histogram.length; i++) {
+        histogram[i] = new LongAdder();
+      }
+    }
+
+    private void record(long nanos) {
+      totalNanos.add(nanos);
+      int bucket = 0;
+      while (bucket < BUCKET_BOUNDS.length && nanos > BUCKET_BOUNDS[bucket]) {
+        bucket++;
+      }
+      histogram[bucket].increment();
+    }
+
+    private Snapshot snapshot() {
+      long[] buckets = new long[histogram.length];
+      for (int i = 0; i < histogram.length; i++) {
+        buckets[i] = histogram[i].sum();
+      }
+      return new Snapshot(
+          mappings.sum(),
+          unmapped.sum(),
+          failures.sum(),
+          planMisses.sum(),
+          totalNanos.sum(),
+          buckets);
+    }
+  }
+
+  /** Immutable statistics of a single exception class. */
+  public static final class Snapshot {
+
+    private final long mappings;
+    private final long unmapped;
+    private final long failures;
+    private final long planMisses;
+    private final long totalNanos;
+    private final long[] histogram;
+
+    private Snapshot(
+        long mappings,
+        long unmapped,
+        long failures,
+        long planMisses,
+        long totalNanos,
+        long[] histogram) {
+      this.mappings = mappings;
+      this.unmapped = unmapped;
+      this.failures = failures;
+      this.planMisses = planMisses;
+      this.totalNanos = totalNanos;
+      this.histogram = histogram;
+    }
+
+    /**
+     * @return number of mapping attempts, including unmapped and failed ones
+     */
+    public long getMappings() {
+      return mappings;
+    }
+
+    /**
+     * @return number of exceptions without mapping
+     */
+    public long getUnmapped() {
+      return unmapped;
+    }
+
+    /**
+     * @return number of failed mappings
+     */
+    public long getFailures() {
+      return failures;
+    }
+
+    /**
+     * @return number of mappings that had to compile the mapping plan
+     */
+    public long getPlanMisses() {
+      return planMisses;
+    }
+
+    /**
+     * @return total interpolation time of mapped exceptions, in nanoseconds
+     */
+    public long getTotalNanos() {
+      return totalNanos;
+    }
+
+    /**
+     * Returns counts of interpolation times per bucket, see {@link #getBucketBoundsNanos()}.
+     *
+     * @return histogram counts, one more than the number of bucket bounds
+     */
+    public long[] getHistogram() {
+      return histogram.clone();
+    }
+
+    @Override
+    public String toString() {
+      return "{ \"mappings\" : "
+          + mappings
+          + ", \"unmapped\" : "
+          + unmapped
+          + ", \"failures\" : "
+          + failures
+          + ", \"planMisses\" : "
+          + planMisses
+          + ", \"totalNanos\" : "
+          + totalNanos
+          + ", \"histogram\" : "
+          + Arrays.toString(histogram)
+          + " }";
+    }
+  }
+}
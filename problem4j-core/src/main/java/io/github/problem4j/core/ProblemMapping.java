@@ -35,6 +35,15 @@
  *       methods
  *   <li>{@code {fieldName}} -> value of any field (private or public) in the exception class
  *       hierarchy
+ *   <li>{@code {code}}, {@code {getCode}} -> value returned by a no-argument method {@code code()}
+ *       (e.g. record component accessor), {@code getCode()} or {@code isCode()}, if there's no
+ *       field of that name
+ *   <li>{@code {order.id}} -> nested property, each step resolved the same way on the previous
+ *       value
+ *   <li>{@code {amount:%.2f}}, {@code {elapsed:ms}} -> any of the above followed by a format
+ *       specifier, either a {@link java.util.Formatter} one (always applied with {@link
+ *       java.util.Locale#ROOT}) or a unit ({@code ns}, {@code us}, {@code ms}, {@code s}, {@code
+ *       m}, {@code h}) that a {@link java.time.Duration} value is converted to
  *   <li>Any placeholder that resolves to null or an empty string is ignored in the final output
  * </ul>
  *
@@ -46,8 +55,8 @@
  * <h3>Extensions</h3>
  *
  * <p>Use {@link #extensions()} to expose additional fields as Problem extensions. Each name is
- * resolved using the same rules as placeholders (fields in the class hierarchy). Null or empty
- * values are automatically omitted from the final Problem.
+ * resolved using the same rules as placeholders (fields, accessor methods or nested paths). Null
+ * or empty values are automatically omitted from the final Problem.
  *
  * <h3>Defaulting behavior</h3>
  *
@@ -96,7 +105,10 @@
    *   <li>{@code {message}} -> exception message
    *   <li>{@code {context.*}} -> value from {@link ProblemContext} included in {@link
    *       ProblemMapper} methods
-   *   <li>{@code {fieldName}} -> value of any field in the exception class hierarchy
+   *   <li>{@code {fieldName}} -> value of any field in the exception class hierarchy, or of a
+   *       no-argument accessor method or getter of that name
+   *   <li>{@code {order.id}} -> nested property path
+   *   <li>{@code {amount:%.2f}}, {@code {elapsed:ms}} -> formatted value
    * </ul>
    *
    * <p>If empty, a default type (e.g., {@code about:blank}) may be applied by the processor. Null
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+/**
+ * Builder interface for constructing {@link ProblemMapping} instances in code, for exception
+ * classes that cannot be annotated, such as JDK or third-party exceptions.
+ *
+ * <p>All values have the same meaning and defaults as the attributes of {@link ProblemMapping}.
+ *
+ * @see ProblemMappingRegistry
+ */
+public interface ProblemMappingBuilder {
+
+  /**
+   * Sets the interpolated type URI, see {@link ProblemMapping#type()}.
+   *
+   * @param type the type template
+   * @return this builder instance for chaining
+   */
+  ProblemMappingBuilder type(String type);
+
+  /**
+   * Sets the interpolated title, see {@link ProblemMapping#title()}.
+   *
+   * @param title the title template
+   * @return this builder instance for chaining
+   */
+  ProblemMappingBuilder title(String title);
+
+  /**
+   * Sets the status, see {@link ProblemMapping#status()}.
+   *
+   * @param status the HTTP status code
+   * @return this builder instance for chaining
+   */
+  ProblemMappingBuilder status(int status);
+
+  /**
+   * Sets the status, see {@link ProblemMapping#status()}.
+   *
+   * @param status the HTTP status
+   * @return this builder instance for chaining
+   */
+  ProblemMappingBuilder status(ProblemStatus status);
+
+  /**
+   * Sets the interpolated detail, see {@link ProblemMapping#detail()}.
+   *
+   * @param detail the detail template
+   * @return this builder instance for chaining
+   */
+  ProblemMappingBuilder detail(String detail);
+
+  /**
+   * Sets the interpolated instance URI, see {@link ProblemMapping#instance()}.
+   *
+   * @param instance the instance template
+   * @return this builder instance for chaining
+   */
+  ProblemMappingBuilder instance(String instance);
+
+  /**
+   * Sets names of fields to expose as extensions, see {@link ProblemMapping#extensions()}.
+   *
+   * @param extensions the field names
+   * @return this builder instance for chaining
+   */
+  ProblemMappingBuilder extensions(String... extensions);
+
+  /**
+   * Builds an immutable {@link ProblemMapping} instance, equal to an annotation with the same
+   * values.
+   *
+   * @return a new {@link ProblemMapping} instance
+   */
+  ProblemMapping build();
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+final class ProblemMappingBuilderImpl implements ProblemMappingBuilder {
+
+  private String type = "";
+  private String title = "";
+  private int status = 0;
+  private String detail = "";
+  private String instance = "";
+  private String[] extensions = new String[0];
+
+  ProblemMappingBuilderImpl() {}
+
+  @Override
+  public ProblemMappingBuilder type(String type) {
+    this.type = type != null ? type : "";
+    return this;
+  }
+
+  @Override
+  public ProblemMappingBuilder title(String title) {
+    this.title = title != null ? title : "";
+    return this;
+  }
+
+  @Override
+  public ProblemMappingBuilder status(int status) {
+    this.status = status;
+    return this;
+  }
+
+  @Override
+  public ProblemMappingBuilder status(ProblemStatus status) {
+    return status(status != null ? status.getStatus() : 0);
+  }
+
+  @Override
+  public ProblemMappingBuilder detail(String detail) {
+    this.detail = detail != null ? detail : "";
+    return this;
+  }
+
+  @Override
+  public ProblemMappingBuilder instance(String instance) {
+    this.instance = instance != null ? instance : "";
+    return this;
+  }
+
+  @Override
+  public ProblemMappingBuilder extensions(String... extensions) {
+    this.extensions = extensions != null ? extensions.clone() : new String[0];
+    return this;
+  }
+
+  @Override
+  public ProblemMapping build() {
+    return new ProblemMappingImpl(type, title, status, detail, instance, extensions);
+  }
+}
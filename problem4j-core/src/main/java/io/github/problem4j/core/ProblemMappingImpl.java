@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+/**
+ * {@link ProblemMapping} created in code. Follows the {@link Annotation} contract for {@code
+ * equals}, {@code hashCode} and {@code toString}, so it is interchangeable with annotations read
+ * from classes.
+ */
+final class ProblemMappingImpl implements ProblemMapping {
+
+  private final String type;
+  private final String title;
+  private final int status;
+  private final String detail;
+  private final String instance;
+  private final String[] extensions;
+
+  ProblemMappingImpl(
+      String type, String title, int status, String detail, String instance, String[] extensions) {
+    this.type = type;
+    this.title = title;
+    this.status = status;
+    this.detail = detail;
+    this.instance = instance;
+    this.extensions = extensions;
+  }
+
+  @Override
+  public String type() {
+    return type;
+  }
+
+  @Override
+  public String title() {
+    return title;
+  }
+
+  @Override
+  public int status() {
+    return status;
+  }
+
+  @Override
+  public String detail() {
+    return detail;
+  }
+
+  @Override
+  public String instance() {
+    return instance;
+  }
+
+  @Override
+  public String[] extensions() {
+    return extensions.clone();
+  }
+
+  @Override
+  public Class<? extends Annotation> annotationType() {
+    return ProblemMapping.class;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ProblemMapping)) {
+      return false;
+    }
+    ProblemMapping mapping = (ProblemMapping) obj;
+    return type.equals(mapping.type())
+        && title.equals(mapping.title())
+        && status == mapping.status()
+        && detail.equals(mapping.detail())
+        && instance.equals(mapping.instance())
+        && Arrays.equals(extensions, mapping.extensions());
+  }
+
+  /** Computed as specified by {@link Annotation#hashCode()}. */
+  @Override
+  public int hashCode() {
+    return memberHash("type", type.hashCode())
+        + memberHash("title", title.hashCode())
+        + memberHash("status", Integer.hashCode(status))
+        + memberHash("detail", detail.hashCode())
+        + memberHash("instance", instance.hashCode())
+        + memberHash("extensions", Arrays.hashCode(extensions));
+  }
+
+  private static int memberHash(String name, int valueHash) {
+    return (127 * name.hashCode()) ^ valueHash;
+  }
+
+  @Override
+  public String toString() {
+    return "@"
+        + ProblemMapping.class.getName()
+        + "(type=\""
+        + type
+        + "\", title=\""
+        + title
+        + "\", status="
+        + status
+        + ", detail=\""
+        + detail
+        + "\", instance=\""
+        + instance
+        + "\", extensions="
+        + Arrays.toString(extensions)
+        + ")";
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable, pre-processed form of a {@link ProblemMapping} annotation.
+ *
+ * <p>All annotation values are trimmed once and compiled into {@link MappingTemplate}s, so that
+ * {@link AbstractProblemMapper} only has to run the plan for every mapped exception instead of
+ * re-reading, re-trimming and re-parsing the annotation. Constant {@code type} and {@code
+ * instance} URIs are parsed at this point as well, see {@link MappingUri}.
+ */
+final class ProblemMappingPlan {
+
+  /** Plan used for classes without {@link ProblemMapping} annotation. */
+  static final ProblemMappingPlan UNMAPPED =
+      new ProblemMappingPlan(
+          null,
+          MappingUri.EMPTY,
+          MappingTemplate.EMPTY,
+          0,
+          MappingTemplate.EMPTY,
+          MappingUri.EMPTY,
+          new String[0]);
+
+  private final ProblemMapping mapping;
+
+  private final MappingUri type;
+  private final MappingTemplate title;
+  private final int status;
+  private final MappingTemplate detail;
+  private final MappingUri instance;
+  private final String[] extensions;
+
+  private ProblemMappingPlan(
+      ProblemMapping mapping,
+      MappingUri type,
+      MappingTemplate title,
+      int status,
+      MappingTemplate detail,
+      MappingUri instance,
+      String[] extensions) {
+    this.mapping = mapping;
+    this.type = type;
+    this.title = title;
+    this.status = status;
+    this.detail = detail;
+    this.instance = instance;
+    this.extensions = extensions;
+  }
+
+  /**
+   * Compiles the given annotation into a plan.
+   *
+   * @param mapping the annotation to compile (may be {@code null})
+   * @return compiled plan, or {@link #UNMAPPED} if {@code mapping} is {@code null}
+   */
+  static ProblemMappingPlan compile(ProblemMapping mapping) {
+    if (mapping == null) {
+      return UNMAPPED;
+    }
+    return new ProblemMappingPlan(
+        mapping,
+        MappingUri.compile(template(mapping.type())),
+        template(mapping.title()),
+        Math.max(mapping.status(), 0),
+        template(mapping.detail()),
+        MappingUri.compile(template(mapping.instance())),
+        trimExtensions(mapping.extensions()));
+  }
+
+  private static MappingTemplate template(String value) {
+    return value != null ? MappingTemplate.compile(value.trim()) : MappingTemplate.EMPTY;
+  }
+
+  private static String[] trimExtensions(String[] extensions) {
+    if (extensions == null || extensions.length == 0) {
+      return new String[0];
+    }
+    List<String> result = new ArrayList<>(extensions.length);
+    for (String name : extensions) {
+      if (name != null && !name.trim().isEmpty()) {
+        result.add(name.trim());
+      }
+    }
+    return result.toArray(new String[0]);
+  }
+
+  /**
+   * Checks the plan against given exception class, resolving property accessors of all placeholders
+   * and extensions on the way, so they are cached before the first exception is mapped.
+   *
+   * @param type the exception class this plan was compiled for
+   * @return descriptions of problems found in the mapping, empty if the mapping is valid
+   */
+  List<String> validate(Class<?> type) {
+    List<String> errors = new ArrayList<>();
+    if (!isMapped()) {
+      errors.add(type.getName() + ": missing @ProblemMapping");
+      return errors;
+    }
+    if (this.type.isInvalidConstant()) {
+      errors.add(type.getName() + ": type is not a valid URI: " + mapping.type().trim());
+    }
+    if (instance.isInvalidConstant()) {
+      errors.add(type.getName() + ": instance is not a valid URI: " + mapping.instance().trim());
+    }
+
+    Set<String> fields = new LinkedHashSet<>();
+    this.type.getTemplate().collectFieldNames(fields);
+    title.collectFieldNames(fields);
+    detail.collectFieldNames(fields);
+    instance.getTemplate().collectFieldNames(fields);
+    for (String name : extensions) {
+      fields.add(name);
+    }
+    for (String name : fields) {
+      if (!PropertyPath.of(name).isReadableOn(type)) {
+        errors.add(type.getName() + ": no readable property for placeholder: " + name);
+      }
+    }
+    return errors;
+  }
+
+  boolean isMapped() {
+    return mapping != null;
+  }
+
+  ProblemMapping getMapping() {
+    return mapping;
+  }
+
+  MappingUri getType() {
+    return type;
+  }
+
+  MappingTemplate getTitle() {
+    return title;
+  }
+
+  int getStatus() {
+    return status;
+  }
+
+  MappingTemplate getDetail() {
+    return detail;
+  }
+
+  MappingUri getInstance() {
+    return instance;
+  }
+
+  String[] getExtensions() {
+    return extensions;
+  }
+}
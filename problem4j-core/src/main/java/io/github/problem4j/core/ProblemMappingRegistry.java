@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+/**
+ * Immutable set of {@link ProblemMapping}s declared in code for classes and interfaces, used to map
+ * exceptions that cannot be annotated, such as JDK or third-party exceptions.
+ *
+ * <p>A mapping registered for a class or interface applies to all its subtypes. For each concrete
+ * exception class the nearest registered ancestor is resolved once and memoized, so subsequent
+ * lookups take constant time regardless of the depth of the hierarchy.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * ProblemMappingRegistry registry =
+ *     ProblemMappingRegistry.builder()
+ *         .register(
+ *             TimeoutException.class,
+ *             ProblemMappingRegistry.mapping().status(504).detail("{message}").build())
+ *         .register(
+ *             SQLTransientException.class,
+ *             ProblemMappingRegistry.mapping().status(ProblemStatus.SERVICE_UNAVAILABLE).build())
+ *         .build();
+ *
+ * ProblemMapper mapper = ProblemMapper.builder().registry(registry).build();
+ * }</pre>
+ */
+public interface ProblemMappingRegistry {
+
+  /**
+   * Creates a new {@link ProblemMappingRegistryBuilder} instance.
+   *
+   * @return a new {@link ProblemMappingRegistryBuilder}
+   */
+  static ProblemMappingRegistryBuilder builder() {
+    return new ProblemMappingRegistryBuilderImpl();
+  }
+
+  /**
+   * Creates a new {@link ProblemMappingBuilder} for declaring a mapping in code.
+   *
+   * @return a new {@link ProblemMappingBuilder}
+   */
+  static ProblemMappingBuilder mapping() {
+    return new ProblemMappingBuilderImpl();
+  }
+
+  /**
+   * Returns the mapping of given class, registered for the class itself or for its nearest
+   * superclass or interface.
+   *
+   * <p>Supertypes are searched breadth-first by distance from {@code type}. At the same distance,
+   * superclasses take precedence over interfaces, and interfaces are checked in declaration order.
+   *
+   * @param type the class to find the mapping for
+   * @return the nearest registered mapping, or {@code null} if there is none
+   */
+  ProblemMapping find(Class<?> type);
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+/** Builder interface for constructing {@link ProblemMappingRegistry} instances. */
+public interface ProblemMappingRegistryBuilder {
+
+  /**
+   * Registers a mapping for given class or interface and all its subtypes. Registering the same
+   * type again replaces its previous mapping.
+   *
+   * @param type the class or interface to register mapping for
+   * @param mapping the mapping to apply
+   * @return this builder instance for chaining
+   */
+  ProblemMappingRegistryBuilder register(Class<?> type, ProblemMapping mapping);
+
+  /**
+   * Builds an immutable {@link ProblemMappingRegistry} of all registered mappings.
+   *
+   * @return a new {@link ProblemMappingRegistry} instance
+   */
+  ProblemMappingRegistry build();
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+final class ProblemMappingRegistryBuilderImpl implements ProblemMappingRegistryBuilder {
+
+  private final Map<Class<?>, ProblemMapping> mappings = new IdentityHashMap<>();
+
+  ProblemMappingRegistryBuilderImpl() {}
+
+  @Override
+  public ProblemMappingRegistryBuilder register(Class<?> type, ProblemMapping mapping) {
+    if (type == null) {
+      throw new IllegalArgumentException("type must not be null");
+    }
+    if (mapping == null) {
+      throw new IllegalArgumentException("mapping must not be null");
+    }
+    mappings.put(type, mapping);
+    return this;
+  }
+
+  @Override
+  public ProblemMappingRegistry build() {
+    return new ProblemMappingRegistryImpl(mappings);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+final class ProblemMappingRegistryImpl implements ProblemMappingRegistry {
+
+  private final Map<Class<?>, ProblemMapping> mappings;
+
+  private final ClassValue<ProblemMapping> resolved =
+      new ClassValue<ProblemMapping>() {
+        @Override
+        protected ProblemMapping computeValue(Class<?> type) {
+          return resolve(type);
+        }
+      };
+
+  ProblemMappingRegistryImpl(Map<Class<?>, ProblemMapping> mappings) {
+    this.mappings =
+        mappings.isEmpty() ? Collections.emptyMap() : new IdentityHashMap<>(mappings);
+  }
+
+  @Override
+  public ProblemMapping find(Class<?> type) {
+    if (type == null || mappings.isEmpty()) {
+      return null;
+    }
+    return resolved.get(type);
+  }
+
+  /** Breadth-first search of supertypes, with superclass enqueued before interfaces. */
+  private ProblemMapping resolve(Class<?> type) {
+    Set<Class<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<Class<?>> queue = new ArrayDeque<>();
+    queue.add(type);
+    while (!queue.isEmpty()) {
+      Class<?> current = queue.poll();
+      if (!visited.add(current)) {
+        continue;
+      }
+      ProblemMapping mapping = mappings.get(current);
+      if (mapping != null) {
+        return mapping;
+      }
+      if (current.getSuperclass() != null) {
+        queue.add(current.getSuperclass());
+      }
+      Collections.addAll(queue, current.getInterfaces());
+    }
+    return null;
+  }
+}
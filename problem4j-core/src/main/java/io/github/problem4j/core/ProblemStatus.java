@@ -14,6 +14,9 @@
  */
 package io.github.problem4j.core;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
@@ -1211,6 +1214,28 @@ public int getStatus() {
     return status;
   }
 
+  /**
+   * Returns the {@code application/problem+json} body of {@link Problem#of(ProblemStatus)} for this
+   * status, encoded in UTF-8 once and shared. The returned buffer is a new read-only view, so it
+   * can be consumed independently by each caller.
+   *
+   * @return read-only buffer with the encoded body
+   */
+  public ByteBuffer getProblemJson() {
+    return ByteBuffer.wrap(CanonicalProblem.of(this).json()).asReadOnlyBuffer();
+  }
+
+  /**
+   * Writes the {@code application/problem+json} body of {@link Problem#of(ProblemStatus)} for this
+   * status, encoded in UTF-8 once and shared, so that nothing is allocated per call.
+   *
+   * @param out the stream to write to
+   * @throws IOException if writing to the stream fails
+   */
+  public void writeProblemJson(OutputStream out) throws IOException {
+    out.write(CanonicalProblem.of(this).json());
+  }
+
   /**
    * Resolves conflicts between two {@link ProblemStatus} enum constants that share the same HTTP
    * status code, favoring the non-deprecated constant if one exists.
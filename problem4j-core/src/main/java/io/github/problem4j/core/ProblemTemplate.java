@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.net.URI;
+
+/**
+ * Immutable, thread-safe template of problems that share the same shape and differ only in {@code
+ * detail}, {@code instance} or a single extension value.
+ *
+ * <p>The fixed parts are taken once from a prototype {@link Problem}. Stamping a problem from the
+ * template creates it directly, without going through a {@link ProblemBuilder}, and all stamped
+ * problems share the template's extension storage.
+ *
+ * <pre>{@code
+ * private static final ProblemTemplate OUT_OF_STOCK =
+ *     ProblemTemplate.of(
+ *         Problem.builder()
+ *             .type("https://example.org/out-of-stock")
+ *             .status(ProblemStatus.CONFLICT)
+ *             .extension("retryable", false)
+ *             .build());
+ *
+ * Problem problem = OUT_OF_STOCK.with("Item " + itemId + " is out of stock", instance);
+ * }</pre>
+ */
+public interface ProblemTemplate {
+
+  /**
+   * Creates a template with all members of given prototype problem.
+   *
+   * @param prototype the problem to take type, title, status, detail, instance and extensions from
+   * @return a new {@link ProblemTemplate}
+   * @throws IllegalArgumentException if the {@code prototype} is {@code null}
+   */
+  static ProblemTemplate of(Problem prototype) {
+    if (prototype == null) {
+      throw new IllegalArgumentException("prototype cannot be null");
+    }
+    return new ProblemTemplateImpl(prototype);
+  }
+
+  /**
+   * @return the problem with all members of this template, without any changes
+   */
+  Problem toProblem();
+
+  /**
+   * Stamps a problem with given detail.
+   *
+   * @param detail the detail of the problem (may be {@code null})
+   * @return a new {@link Problem} with the members of this template and given detail
+   */
+  Problem with(String detail);
+
+  /**
+   * Stamps a problem with given detail and instance.
+   *
+   * @param detail the detail of the problem (may be {@code null})
+   * @param instance the instance of the problem (may be {@code null})
+   * @return a new {@link Problem} with the members of this template and given detail and instance
+   */
+  Problem with(String detail, URI instance);
+
+  /**
+   * Stamps a problem with given detail, instance and one additional or replaced extension.
+   *
+   * @param detail the detail of the problem (may be {@code null})
+   * @param instance the instance of the problem (may be {@code null})
+   * @param name the extension key; the extension is skipped if {@code null}
+   * @param value the extension value; the extension is skipped if {@code null}
+   * @return a new {@link Problem} with the members of this template and given values
+   */
+  Problem with(String detail, URI instance, String name, Object value);
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.net.URI;
+
+final class ProblemTemplateImpl implements ProblemTemplate {
+
+  private final URI type;
+  private final String title;
+  private final int status;
+  private final String detail;
+  private final URI instance;
+  private final ProblemExtensions extensions;
+
+  private final Problem problem;
+
+  ProblemTemplateImpl(Problem prototype) {
+    this.type = prototype.getType();
+    this.title = prototype.getTitle();
+    this.status = prototype.getStatus();
+    this.detail = prototype.getDetail();
+    this.instance = prototype.getInstance();
+    this.extensions = ProblemExtensions.copyOf(prototype.getExtensionMembers());
+    this.problem = stamp(detail, instance, extensions);
+  }
+
+  @Override
+  public Problem toProblem() {
+    return problem;
+  }
+
+  @Override
+  public Problem with(String detail) {
+    return stamp(detail, instance, extensions);
+  }
+
+  @Override
+  public Problem with(String detail, URI instance) {
+    return stamp(detail, instance, extensions);
+  }
+
+  @Override
+  public Problem with(String detail, URI instance, String name, Object value) {
+    if (name == null || value == null) {
+      return stamp(detail, instance, extensions);
+    }
+    return stamp(detail, instance, extensions.with(name, value));
+  }
+
+  private Problem stamp(String detail, URI instance, ProblemExtensions extensions) {
+    return new ProblemImpl(type, title, status, detail, instance, extensions);
+  }
+
+  @Override
+  public String toString() {
+    return "ProblemTemplate" + problem;
+  }
+}
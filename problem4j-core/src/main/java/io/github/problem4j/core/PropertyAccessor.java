@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cached, {@link MethodHandle}-based reader of a named property of a class.
+ *
+ * <p>A property named {@code code} is resolved to the first readable of:
+ *
+ * <ol>
+ *   <li>the nearest field {@code code} in the class hierarchy,
+ *   <li>a no-argument method {@code code()}, such as a record component accessor or {@code
+ *       getCode} when the property is named {@code getCode},
+ *   <li>a getter {@code getCode()} or {@code isCode()}.
+ * </ol>
+ *
+ * <p>Methods named like no-argument methods of {@link Throwable} or {@link Object} other than
+ * getters, such as {@code fillInStackTrace}, {@code printStackTrace} or {@code toString}, are never
+ * resolved, including overrides of them, so a placeholder cannot invoke them.
+ *
+ * <p>Accessors are resolved once per class and property name, including negative results for names
+ * that do not match any readable member, so reading a placeholder value does not involve reflective
+ * lookups or exceptions after the first call. At most {@link #MAX_CACHED_NAMES} names are cached
+ * per class.
+ */
+final class PropertyAccessor {
+
+  /** Accessor for names that do not resolve to a readable member, always returns {@code null}. */
+  static final PropertyAccessor MISSING = new PropertyAccessor(null);
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  /**
+   * Maximum number of property names cached per class. Names beyond it are resolved on each call,
+   * so names passed to overridden placeholder hooks cannot grow the cache without bounds.
+   */
+  static final int MAX_CACHED_NAMES = 256;
+
+  /** Names of no-argument {@link Throwable} and {@link Object} methods that are not getters. */
+  private static final Set<String> DENIED_METHODS = deniedMethods();
+
+  private static final ClassValue<ConcurrentMap<String, PropertyAccessor>> ACCESSORS =
+      new ClassValue<ConcurrentMap<String, PropertyAccessor>>() {
+        @Override
+        protected ConcurrentMap<String, PropertyAccessor> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private final MethodHandle getter;
+
+  private PropertyAccessor(MethodHandle getter) {
+    this.getter = getter;
+  }
+
+  /**
+   * Returns the cached accessor for a property of given name, looking it up in {@code type} on
+   * first use.
+   *
+   * @param type the class to search the property in
+   * @param name the property name
+   * @return the accessor, or {@link #MISSING} if there's no readable member for such name
+   */
+  static PropertyAccessor find(Class<?> type, String name) {
+    ConcurrentMap<String, PropertyAccessor> accessors = ACCESSORS.get(type);
+    PropertyAccessor accessor = accessors.get(name);
+    if (accessor == null) {
+      accessor = resolve(type, name);
+      if (accessors.size() >= MAX_CACHED_NAMES) {
+        return accessor;
+      }
+      PropertyAccessor existing = accessors.putIfAbsent(name, accessor);
+      if (existing != null) {
+        accessor = existing;
+      }
+    }
+    return accessor;
+  }
+
+  private static PropertyAccessor resolve(Class<?> type, String name) {
+    MethodHandle getter = findField(type, name);
+    if (getter == null) {
+      getter = findMethod(type, name);
+    }
+    if (getter == null && !name.isEmpty()) {
+      String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+      getter = findMethod(type, "get" + capitalized);
+      if (getter == null) {
+        getter = findMethod(type, "is" + capitalized);
+      }
+    }
+    return getter != null ? new PropertyAccessor(getter.asType(GETTER_TYPE)) : MISSING;
+  }
+
+  /**
+   * Returns getter of the nearest field of given name. A field that exists but cannot be made
+   * accessible (for example a JDK-internal one) hides fields of the same name in superclasses, and
+   * the property is then looked up among methods.
+   */
+  private static MethodHandle findField(Class<?> type, String name) {
+    Class<?> search = type;
+    while (search != null && search != Object.class) {
+      Field field = findDeclaredField(search, name);
+      if (field != null) {
+        return unreflectGetter(field);
+      }
+      search = search.getSuperclass();
+    }
+    return null;
+  }
+
+  private static Field findDeclaredField(Class<?> type, String name) {
+    try {
+      for (Field field : type.getDeclaredFields()) {
+        if (field.getName().equals(name)) {
+          return field;
+        }
+      }
+    } catch (SecurityException ignored) {
+      // ignored, treated as if the class had no such field
+    }
+    return null;
+  }
+
+  private static MethodHandle unreflectGetter(Field field) {
+    try {
+      field.setAccessible(true);
+      MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+      if (Modifier.isStatic(field.getModifiers())) {
+        getter = MethodHandles.dropArguments(getter, 0, Object.class);
+      }
+      return getter;
+    } catch (Exception ignored) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns handle of a no-argument instance method of given name. Methods declared in the class
+   * hierarchy are tried first, then public methods of public supertypes, which are the only ones
+   * callable on instances of inaccessible classes, such as JDK-internal collections.
+   */
+  private static MethodHandle findMethod(Class<?> type, String name) {
+    try {
+      for (Class<?> search = type;
+          search != null && search != Object.class;
+          search = search.getSuperclass()) {
+        for (Method method : search.getDeclaredMethods()) {
+          if (isAccessor(method, name)) {
+            MethodHandle handle = unreflect(method, true);
+            if (handle != null) {
+              return handle;
+            }
+          }
+        }
+      }
+      return findPublicMethod(type, name);
+    } catch (SecurityException ignored) {
+      // ignored, treated as if the class had no such method
+    }
+    return null;
+  }
+
+  private static MethodHandle findPublicMethod(Class<?> type, String name) {
+    Set<Class<?>> visited = new HashSet<>();
+    Deque<Class<?>> queue = new ArrayDeque<>();
+    queue.add(type);
+    while (!queue.isEmpty()) {
+      Class<?> current = queue.poll();
+      if (!visited.add(current)) {
+        continue;
+      }
+      if (Modifier.isPublic(current.getModifiers())) {
+        for (Method method : current.getDeclaredMethods()) {
+          if (isAccessor(method, name) && Modifier.isPublic(method.getModifiers())) {
+            MethodHandle handle = unreflect(method, false);
+            if (handle != null) {
+              return handle;
+            }
+          }
+        }
+      }
+      if (current.getSuperclass() != null) {
+        queue.add(current.getSuperclass());
+      }
+      Collections.addAll(queue, current.getInterfaces());
+    }
+    return null;
+  }
+
+  private static boolean isAccessor(Method method, String name) {
+    return method.getName().equals(name)
+        && !DENIED_METHODS.contains(name)
+        && method.getParameterCount() == 0
+        && method.getReturnType() != void.class
+        && !method.isBridge()
+        && !Modifier.isStatic(method.getModifiers());
+  }
+
+  private static Set<String> deniedMethods() {
+    Set<String> names = new HashSet<>();
+    for (Class<?> type : new Class<?>[] {Throwable.class, Object.class}) {
+      for (Method method : type.getDeclaredMethods()) {
+        if (method.getParameterCount() == 0 && !isGetterName(method.getName())) {
+          names.add(method.getName());
+        }
+      }
+    }
+    return Collections.unmodifiableSet(names);
+  }
+
+  private static boolean isGetterName(String name) {
+    int prefix = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+    return prefix > 0 && name.length() > prefix && Character.isUpperCase(name.charAt(prefix));
+  }
+
+  private static MethodHandle unreflect(Method method, boolean makeAccessible) {
+    try {
+      if (makeAccessible) {
+        method.setAccessible(true);
+      }
+      return MethodHandles.lookup().unreflect(method);
+    } catch (Exception ignored) {
+      return null;
+    }
+  }
+
+  /**
+   * Reads the property value from the given target.
+   *
+   * @param target the object to read the property from
+   * @return the property value, or {@code null} if the property is missing or cannot be read
+   */
+  Object get(Object target) {
+    if (getter == null) {
+      return null;
+    }
+    try {
+      return (Object) getter.invokeExact(target);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable ignored) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Dot-separated chain of property names, such as {@code order.customer.id}, resolved with a {@link
+ * PropertyAccessor} per step.
+ *
+ * <p>Paths are split once per distinct string and cached. Each step looks up the accessor cached
+ * for the runtime class of the current value, so resolving a path of {@code n} properties costs
+ * {@code n} cache lookups and {@code n} handle invocations. A {@code null} value on the way
+ * resolves the whole path to {@code null}.
+ *
+ * <p>The cache holds at most {@link #MAX_CACHED_PATHS} paths. Further paths, such as ones passed to
+ * overridden placeholder hooks with arbitrary names, are compiled on each call instead, which only
+ * costs splitting the string.
+ */
+final class PropertyPath {
+
+  /** Maximum number of compiled paths kept in the cache. */
+  static final int MAX_CACHED_PATHS = 1024;
+
+  private static final ConcurrentMap<String, PropertyPath> PATHS = new ConcurrentHashMap<>();
+
+  private final String[] names;
+
+  private PropertyPath(String[] names) {
+    this.names = names;
+  }
+
+  /**
+   * Returns the cached path for given string, compiling it on first use or on every use once the
+   * cache is full.
+   *
+   * @param path dot-separated property names
+   * @return compiled path
+   */
+  static PropertyPath of(String path) {
+    PropertyPath result = PATHS.get(path);
+    if (result == null) {
+      result = compile(path);
+      if (PATHS.size() >= MAX_CACHED_PATHS) {
+        return result;
+      }
+      PropertyPath existing = PATHS.putIfAbsent(path, result);
+      if (existing != null) {
+        result = existing;
+      }
+    }
+    return result;
+  }
+
+  private static PropertyPath compile(String path) {
+    if (path.indexOf('.') < 0) {
+      return new PropertyPath(new String[] {path});
+    }
+    String[] names = path.split("\\.", -1);
+    for (String name : names) {
+      if (name.isEmpty()) {
+        return new PropertyPath(new String[0]);
+      }
+    }
+    return new PropertyPath(names);
+  }
+
+  /**
+   * Checks whether the first property of this path is readable on given class. Later properties
+   * depend on runtime types of values, so they are not checked.
+   *
+   * @param type the class to resolve the path against
+   * @return {@code true} if the first property is readable, {@code false} otherwise
+   */
+  boolean isReadableOn(Class<?> type) {
+    return names.length > 0 && PropertyAccessor.find(type, names[0]) != PropertyAccessor.MISSING;
+  }
+
+  /**
+   * Resolves the path on given target.
+   *
+   * @param target the object to start from
+   * @return the value of the last property, or {@code null} if any property on the way is missing
+   *     or {@code null}
+   */
+  Object resolve(Object target) {
+    if (names.length == 0) {
+      return null;
+    }
+    Object value = target;
+    for (String name : names) {
+      if (value == null) {
+        return null;
+      }
+      value = PropertyAccessor.find(value.getClass(), name).get(value);
+    }
+    return value;
+  }
+}
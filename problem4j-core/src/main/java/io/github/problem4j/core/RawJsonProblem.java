@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * {@link Problem} backed by the UTF-8 encoded JSON it was read from, returned by {@link
+ * ProblemJsonReader#readLazily(byte[])}.
+ *
+ * <p>The input is validated and indexed in a single pass, which parses only {@code type}, {@code
+ * status} and {@code instance}. Values of {@code title}, {@code detail} and extensions are parsed
+ * from their recorded offsets when first requested. {@link ProblemJsonWriter} writes the original
+ * bytes of such problem instead of encoding it again.
+ *
+ * <p>Instances are serialized as a regular problem with all members parsed.
+ */
+final class RawJsonProblem extends AbstractProblem {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient byte[] json;
+  private final transient ProblemJsonLimits limits;
+  private final transient int titleFrom;
+  private final transient int detailFrom;
+
+  /** Offsets of extension values by extension name, in the same order as parsed extensions. */
+  private final transient ProblemExtensions extensionOffsets;
+
+  private transient volatile String title;
+  private transient volatile String detail;
+  private transient volatile ProblemExtensions extensions;
+
+  private RawJsonProblem(byte[] json, ProblemJsonLimits limits, Index index) {
+    super(
+        index.members.getType(),
+        null,
+        index.members.getStatus(),
+        null,
+        index.members.getInstance(),
+        null);
+    this.json = json;
+    this.limits = limits;
+    this.titleFrom = index.titleFrom;
+    this.detailFrom = index.detailFrom;
+    this.extensionOffsets = (ProblemExtensions) index.members.getExtensionMembers();
+  }
+
+  /**
+   * Validates and indexes given input.
+   *
+   * @param json UTF-8 encoded JSON, retained by the returned problem
+   * @param limits the limits to apply
+   * @return problem backed by the input
+   * @throws ProblemJsonException if the input is not a valid problem document or exceeds a limit
+   */
+  static RawJsonProblem of(byte[] json, ProblemJsonLimits limits) {
+    Index index = new Index(json, limits);
+    index.parser.index(index);
+    index.members = index.assembler.build();
+    return new RawJsonProblem(json, limits, index);
+  }
+
+  /**
+   * Returns the input this problem was read from.
+   *
+   * @return UTF-8 encoded JSON of this problem; must not be modified
+   */
+  byte[] json() {
+    return json;
+  }
+
+  @Override
+  public String getTitle() {
+    String title = this.title;
+    if (title == null && titleFrom >= 0) {
+      title = (String) parser().valueAt(titleFrom);
+      this.title = title;
+    }
+    return title;
+  }
+
+  @Override
+  public String getDetail() {
+    String detail = this.detail;
+    if (detail == null && detailFrom >= 0) {
+      detail = (String) parser().valueAt(detailFrom);
+      this.detail = detail;
+    }
+    return detail;
+  }
+
+  @Override
+  public Set<String> getExtensions() {
+    return extensionOffsets.keySet();
+  }
+
+  /**
+   * Gets the value of a named extension, parsing only that value unless all extensions have
+   * already been parsed by {@link #getExtensionMembers()}.
+   *
+   * @param name the extension key
+   * @return the value of the extension, or {@code null} if not present
+   */
+  @Override
+  public Object getExtensionValue(String name) {
+    ProblemExtensions extensions = this.extensions;
+    if (extensions != null) {
+      return extensions.get(name);
+    }
+    Object from = extensionOffsets.get(name);
+    return from != null ? parser().valueAt((Integer) from) : null;
+  }
+
+  @Override
+  public boolean hasExtension(String extension) {
+    return extensionOffsets.containsKey(extension);
+  }
+
+  /**
+   * Returns all extension members, parsing their values on the first call.
+   *
+   * @return an unmodifiable map of extension members
+   */
+  @Override
+  public ProblemExtensions getExtensionMembers() {
+    ProblemExtensions extensions = this.extensions;
+    if (extensions == null) {
+      int size = extensionOffsets.size();
+      Object[] entries = Arrays.copyOf(extensionOffsets.entries(), size * 2);
+      ProblemJsonParser parser = parser();
+      for (int i = 1; i < entries.length; i += 2) {
+        entries[i] = parser.valueAt((Integer) entries[i]);
+      }
+      extensions = ProblemExtensions.wrap(entries, size);
+      this.extensions = extensions;
+    }
+    return extensions;
+  }
+
+  @Override
+  public Problem withExtension(String name, Object value) {
+    if (name == null || value == null) {
+      return this;
+    }
+    return new ProblemImpl(
+        getType(),
+        getTitle(),
+        getStatus(),
+        getDetail(),
+        getInstance(),
+        getExtensionMembers().with(name, value));
+  }
+
+  @Override
+  public Problem withInstance(URI instance) {
+    return new ProblemImpl(
+        getType(), getTitle(), getStatus(), getDetail(), instance, getExtensionMembers());
+  }
+
+  private ProblemJsonParser parser() {
+    return ProblemJsonParser.of(json, 0, json.length, limits);
+  }
+
+  /**
+   * Parses {@code type}, {@code status} and {@code instance} through {@link ProblemJsonAssembler},
+   * which also stores offsets of extension values in place of the values themselves, so that the
+   * same rules apply as for parsed problems.
+   */
+  private static final class Index implements ProblemJsonParser.MemberIndex {
+
+    private final byte[] json;
+    private final ProblemJsonParser parser;
+    private final ProblemJsonParser decoder;
+    private final ProblemJsonAssembler assembler;
+
+    private int titleFrom = -1;
+    private int detailFrom = -1;
+    private Problem members;
+
+    private Index(byte[] json, ProblemJsonLimits limits) {
+      this.json = json;
+      this.parser = ProblemJsonParser.of(json, 0, json.length, limits);
+      this.decoder = ProblemJsonParser.of(json, 0, json.length, limits);
+      this.assembler = new ProblemJsonAssembler(limits);
+    }
+
+    @Override
+    public void member(String name, int from) {
+      assembler.beginMember(name);
+      switch (name) {
+        case "title":
+          titleFrom = json[from] == '"' ? from : titleFrom;
+          break;
+        case "detail":
+          detailFrom = json[from] == '"' ? from : detailFrom;
+          break;
+        case "type":
+        case "status":
+        case "instance":
+          assembler.member(name, decoder.valueAt(from));
+          break;
+        default:
+          // null values are skipped anyway, no need to store their offsets
+          if (json[from] != 'n') {
+            assembler.member(name, from);
+          }
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import java.io.IOException;
+
+/**
+ * {@link Appendable} encoding appended characters to UTF-8 bytes on the fly, without creating
+ * intermediate strings. Surrogate pairs may be split between calls; unpaired surrogates are encoded
+ * as {@code '?'}, the same as by {@link String#getBytes(java.nio.charset.Charset)}.
+ */
+abstract class Utf8Appendable implements Appendable {
+
+  private char pendingHighSurrogate;
+
+  /**
+   * Writes a single encoded byte.
+   *
+   * @param b the byte to write, in the lowest 8 bits
+   * @throws IOException if writing fails
+   */
+  abstract void writeByte(int b) throws IOException;
+
+  @Override
+  public Appendable append(CharSequence csq) throws IOException {
+    CharSequence value = csq != null ? csq : "null";
+    return append(value, 0, value.length());
+  }
+
+  @Override
+  public Appendable append(CharSequence csq, int start, int end) throws IOException {
+    CharSequence value = csq != null ? csq : "null";
+    for (int i = start; i < end; i++) {
+      append(value.charAt(i));
+    }
+    return this;
+  }
+
+  @Override
+  public Appendable append(char c) throws IOException {
+    if (pendingHighSurrogate != 0) {
+      char high = pendingHighSurrogate;
+      pendingHighSurrogate = 0;
+      if (Character.isLowSurrogate(c)) {
+        int codePoint = Character.toCodePoint(high, c);
+        writeByte(0xF0 | (codePoint >> 18));
+        writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+        writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+        writeByte(0x80 | (codePoint & 0x3F));
+        return this;
+      }
+      writeByte('?');
+    }
+    if (c < 0x80) {
+      writeByte(c);
+    } else if (c < 0x800) {
+      writeByte(0xC0 | (c >> 6));
+      writeByte(0x80 | (c & 0x3F));
+    } else if (Character.isHighSurrogate(c)) {
+      pendingHighSurrogate = c;
+    } else if (Character.isLowSurrogate(c)) {
+      writeByte('?');
+    } else {
+      writeByte(0xE0 | (c >> 12));
+      writeByte(0x80 | ((c >> 6) & 0x3F));
+      writeByte(0x80 | (c & 0x3F));
+    }
+    return this;
+  }
+
+  /**
+   * Encodes a high surrogate left without its pair, if any. Must be called after the last append.
+   *
+   * @throws IOException if writing fails
+   */
+  void finish() throws IOException {
+    if (pendingHighSurrogate != 0) {
+      pendingHighSurrogate = 0;
+      writeByte('?');
+    }
+  }
+}
@@ -17,9 +17,16 @@
 import static io.github.problem4j.core.MapUtils.mapOf;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -195,6 +202,34 @@ void givenTwoDifferentProblems_shouldHaveDifferentHashCodes() {
     assertThat(problem1.hashCode()).isNotEqualTo(problem2.hashCode());
   }
 
+  @Test
+  void givenProblem_whenHashCode_thenMatchesObjectsHashOfAllFields() {
+    Problem problem =
+        new AbstractProblem(
+            URI.create("https://example.org/t"), "title", 404, "detail", null, mapOf("k", "v")) {};
+
+    int expected =
+        Objects.hash(
+            problem.getType(),
+            problem.getTitle(),
+            problem.getStatus(),
+            problem.getDetail(),
+            problem.getInstance(),
+            problem.getExtensionMembers());
+
+    assertThat(problem.hashCode()).isEqualTo(expected);
+    assertThat(problem.hashCode()).isEqualTo(expected);
+  }
+
+  @Test
+  void givenProblemsDifferingOnlyInExtensionValue_shouldNotBeEqual() {
+    Problem problem1 = new AbstractProblem(null, "title", 404, null, null, mapOf("k", 1)) {};
+    Problem problem2 = new AbstractProblem(null, "title", 404, null, null, mapOf("k", 2)) {};
+
+    assertThat(problem1).isNotEqualTo(problem2);
+    assertThat(problem2).isNotEqualTo(problem1);
+  }
+
   @Test
   void givenTwoEqualExtensions_shouldBeEqual() {
     Problem.Extension ext1 = new AbstractProblem.AbstractExtension("key", "value") {};
@@ -245,6 +280,31 @@ void givenTwoDifferentExtensions_shouldHaveDifferentHashCodes() {
     assertThat(ext1.hashCode()).isNotEqualTo(ext2.hashCode());
   }
 
+  @Test
+  void givenProblem_whenSerialized_thenKeepsMapBasedFormAndExtensionOrder() throws Exception {
+    Problem problem =
+        Problem.builder().title("t").status(400).extension("z", 1).extension("a", "x").build();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(problem);
+    }
+    Problem copy;
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      copy = (Problem) in.readObject();
+    }
+
+    assertThat(ObjectStreamClass.lookup(AbstractProblem.class).getFields())
+        .extracting(ObjectStreamField::getName)
+        .containsExactlyInAnyOrder("type", "title", "status", "detail", "instance", "extensions");
+    assertThat(ObjectStreamClass.lookup(AbstractProblem.class).getField("extensions").getType())
+        .isEqualTo(Map.class);
+    assertThat(copy).isInstanceOf(ProblemImpl.class).isEqualTo(problem);
+    assertThat(copy.getExtensionMembers()).isInstanceOf(ProblemExtensions.class);
+    assertThat(copy.getExtensions()).containsExactly("z", "a");
+  }
+
   private static class DummyObject {
 
     private final String value;
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+
+class CauseChainProblemMapperTest {
+
+  @ProblemMapping(title = "Order {orderId} failed", status = 409)
+  static class OrderException extends RuntimeException {
+
+    final String orderId;
+
+    OrderException(String orderId) {
+      this.orderId = orderId;
+    }
+  }
+
+  static class WrapperException extends RuntimeException {
+
+    WrapperException() {}
+
+    WrapperException(Throwable cause) {
+      super(cause);
+    }
+  }
+
+  @Test
+  void givenWrappedException_whenToProblemBuilder_thenMapsFirstMappableCause() {
+    ProblemMapper mapper = ProblemMapper.builder().unwrapCauses(5).build();
+
+    Throwable ex =
+        new CompletionException(
+            new UndeclaredThrowableException(new ExecutionException(new OrderException("o-1"))));
+
+    assertThat(mapper.isMappingCandidate(ex)).isTrue();
+    assertThat(mapper.toProblemBuilder(ex).build())
+        .isEqualTo(Problem.builder().title("Order o-1 failed").status(409).build());
+  }
+
+  @Test
+  void givenCauseDeeperThanMaxDepth_whenToProblemBuilder_thenReturnsEmptyBuilder() {
+    ProblemMapper mapper = ProblemMapper.builder().unwrapCauses(2).build();
+
+    Throwable ex =
+        new WrapperException(new WrapperException(new WrapperException(new OrderException("o-1"))));
+
+    assertThat(mapper.isMappingCandidate(ex)).isFalse();
+    assertThat(mapper.tryMap(ex)).isNull();
+    assertThat(mapper.toProblemBuilder(ex).build()).isEqualTo(Problem.builder().build());
+  }
+
+  @Test
+  void givenCyclicCauses_whenToProblemBuilder_thenStops() {
+    ProblemMapper mapper = ProblemMapper.builder().unwrapCauses(100).unwrapSuppressed(true).build();
+    ProblemMapper causesOnly = ProblemMapper.builder().unwrapCauses(100).build();
+
+    WrapperException first = new WrapperException();
+    WrapperException second = new WrapperException(first);
+    first.initCause(second);
+    first.addSuppressed(second);
+
+    assertThat(mapper.tryMap(first)).isNull();
+    assertThat(causesOnly.tryMap(first)).isNull();
+  }
+
+  @Test
+  void givenSuppressedException_whenUnwrapSuppressed_thenMapsIt() {
+    WrapperException ex = new WrapperException(new IllegalStateException());
+    ex.addSuppressed(new OrderException("o-2"));
+
+    assertThat(ProblemMapper.builder().unwrapCauses(3).build().tryMap(ex)).isNull();
+    assertThat(ProblemMapper.builder().unwrapCauses(3).unwrapSuppressed(true).build().tryMap(ex))
+        .isNotNull()
+        .extracting(ProblemBuilder::build)
+        .isEqualTo(Problem.builder().title("Order o-2 failed").status(409).build());
+  }
+
+  @Test
+  void givenFallback_whenMappingBothWrapperShapesInEitherOrder_thenRoutesEachInstance() {
+    ProblemMapper fallback =
+        new ProblemMapper() {
+          @Override
+          public ProblemBuilder toProblemBuilder(Throwable t) {
+            return toProblemBuilder(t, null);
+          }
+
+          @Override
+          public ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context) {
+            return Problem.builder().status(500);
+          }
+
+          @Override
+          public boolean isMappingCandidate(Throwable t) {
+            return true;
+          }
+        };
+    Problem mapped = Problem.builder().title("Order o-1 failed").status(409).build();
+    Problem unmapped = Problem.builder().status(500).build();
+
+    ProblemMapper mappedFirst = ProblemMapper.builder().unwrapCauses(3).fallback(fallback).build();
+    assertThat(mappedFirst.toProblemBuilder(wrapped(new OrderException("o-1"))).build())
+        .isEqualTo(mapped);
+    assertThat(mappedFirst.toProblemBuilder(wrapped(new IllegalStateException())).build())
+        .isEqualTo(unmapped);
+    assertThat(mappedFirst.toProblemBuilder(wrapped(new OrderException("o-1"))).build())
+        .isEqualTo(mapped);
+
+    ProblemMapper unmappedFirst =
+        ProblemMapper.builder().unwrapCauses(3).fallback(fallback).build();
+    assertThat(unmappedFirst.toProblemBuilder(wrapped(new IllegalStateException())).build())
+        .isEqualTo(unmapped);
+    assertThat(unmappedFirst.toProblemBuilder(wrapped(new OrderException("o-1"))).build())
+        .isEqualTo(mapped);
+    assertThat(unmappedFirst.toProblemBuilder(wrapped(new IllegalStateException())).build())
+        .isEqualTo(unmapped);
+  }
+
+  private static Throwable wrapped(Throwable cause) {
+    return new CompletionException(cause);
+  }
+
+  @Test
+  void givenNegativeDepth_whenUnwrapCauses_thenThrowsIllegalArgumentException() {
+    assertThatThrownBy(() -> ProblemMapper.builder().unwrapCauses(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
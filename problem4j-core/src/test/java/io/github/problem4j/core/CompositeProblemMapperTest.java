@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CompositeProblemMapperTest {
+
+  @ProblemMapping(title = "annotated", status = 400)
+  static class AnnotatedException extends RuntimeException {}
+
+  static class PlainException extends RuntimeException {}
+
+  static final class CountingMapper implements ProblemMapper {
+
+    private final Class<?> mappedClass;
+    private final String title;
+    private final AtomicInteger candidateChecks = new AtomicInteger();
+
+    CountingMapper(Class<?> mappedClass, String title) {
+      this.mappedClass = mappedClass;
+      this.title = title;
+    }
+
+    @Override
+    public ProblemBuilder toProblemBuilder(Throwable t) {
+      return toProblemBuilder(t, null);
+    }
+
+    @Override
+    public ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context) {
+      return Problem.builder().title(title);
+    }
+
+    @Override
+    public ProblemBuilder tryMap(Throwable t, ProblemContext context) {
+      return mappedClass.isInstance(t) ? toProblemBuilder(t, context) : null;
+    }
+
+    @Override
+    public boolean isMappingCandidate(Throwable t) {
+      candidateChecks.incrementAndGet();
+      return mappedClass.isInstance(t);
+    }
+  }
+
+  @Test
+  void givenSeveralDelegates_whenToProblemBuilder_thenFirstCandidateWins() {
+    CountingMapper first = new CountingMapper(PlainException.class, "first");
+    CountingMapper second = new CountingMapper(RuntimeException.class, "second");
+    ProblemMapper mapper = new CompositeProblemMapper(ProblemMapper.create(), first, second);
+
+    assertThat(mapper.toProblemBuilder(new AnnotatedException()).build())
+        .isEqualTo(Problem.builder().title("annotated").status(400).build());
+    assertThat(mapper.toProblemBuilder(new PlainException()).build())
+        .isEqualTo(Problem.builder().title("first").build());
+    assertThat(mapper.toProblemBuilder(new IllegalStateException()).build())
+        .isEqualTo(Problem.builder().title("second").build());
+    assertThat(mapper.tryMap(new Exception())).isNull();
+    assertThat(mapper.isMappingCandidate(null)).isFalse();
+  }
+
+  @Test
+  void givenResolvedClass_whenMappedAgain_thenDoesNotAskDelegatesAgain() {
+    CountingMapper first = new CountingMapper(PlainException.class, "first");
+    CountingMapper second = new CountingMapper(IllegalStateException.class, "second");
+    ProblemMapper mapper = new CompositeProblemMapper(first, second);
+
+    for (int i = 0; i < 10; i++) {
+      mapper.toProblemBuilder(new IllegalStateException());
+      mapper.isMappingCandidate(new Exception());
+    }
+
+    assertThat(first.candidateChecks).hasValue(2);
+    assertThat(second.candidateChecks).hasValue(2);
+  }
+
+  @Test
+  void givenDelegateReturningNothing_whenTryMap_thenFallsThroughToNextDelegate() {
+    ProblemMapper declining =
+        new ProblemMapper() {
+          @Override
+          public ProblemBuilder toProblemBuilder(Throwable t) {
+            return toProblemBuilder(t, null);
+          }
+
+          @Override
+          public ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context) {
+            return Problem.builder();
+          }
+
+          @Override
+          public ProblemBuilder tryMap(Throwable t, ProblemContext context) {
+            return null;
+          }
+
+          @Override
+          public boolean isMappingCandidate(Throwable t) {
+            return true;
+          }
+        };
+    ProblemMapper mapper =
+        new CompositeProblemMapper(declining, new CountingMapper(Throwable.class, "fallback"));
+
+    assertThat(mapper.toProblemBuilder(new PlainException()).build())
+        .isEqualTo(Problem.builder().title("fallback").build());
+    assertThat(mapper.tryMap(new PlainException()).build())
+        .isEqualTo(Problem.builder().title("fallback").build());
+  }
+
+  @Test
+  void givenFallback_whenBuild_thenUsesItForUnmappedExceptions() {
+    ProblemMapper mapper =
+        ProblemMapper.builder().fallback(new CountingMapper(Throwable.class, "fallback")).build();
+
+    assertThat(mapper).isInstanceOf(CompositeProblemMapper.class);
+    assertThat(mapper.toProblemBuilder(new AnnotatedException()).build())
+        .isEqualTo(Problem.builder().title("annotated").status(400).build());
+    assertThat(mapper.toProblemBuilder(new PlainException()).build())
+        .isEqualTo(Problem.builder().title("fallback").build());
+  }
+
+  @Test
+  void givenNullDelegate_whenCreating_thenThrowsIllegalArgumentException() {
+    assertThatThrownBy(() -> new CompositeProblemMapper(ProblemMapper.create(), null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
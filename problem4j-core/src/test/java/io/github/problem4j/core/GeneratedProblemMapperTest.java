@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class GeneratedProblemMapperTest {
+
+  static class OrderException extends RuntimeException {
+
+    final String orderId;
+
+    OrderException(String orderId) {
+      super("order failed");
+      this.orderId = orderId;
+    }
+  }
+
+  static class SpecialOrderException extends OrderException {
+
+    SpecialOrderException() {
+      super("special");
+    }
+  }
+
+  static final class OrderExceptionMapper extends GeneratedProblemMapper<OrderException> {
+
+    OrderExceptionMapper() {
+      super(OrderException.class);
+    }
+
+    @Override
+    protected void apply(ProblemBuilder builder, OrderException t, ProblemContext context) {
+      applyType(builder, "https://example.org/orders/" + contextValue(context, "region"));
+      applyTitle(builder, valueOf(t.getMessage()));
+      builder.status(409);
+      applyDetail(builder, "");
+      applyInstance(builder, "not a valid uri {" + valueOf(t.orderId));
+      applyExtension(builder, "orderId", t.orderId);
+    }
+  }
+
+  @Test
+  void givenExactClass_whenToProblemBuilder_thenAppliesGeneratedCode() {
+    ProblemMapper mapper = new OrderExceptionMapper();
+
+    Problem problem =
+        mapper
+            .toProblemBuilder(
+                new OrderException("o-1"), ProblemContext.create().put("region", "eu"))
+            .build();
+
+    assertThat(problem)
+        .isEqualTo(
+            Problem.builder()
+                .type("https://example.org/orders/eu")
+                .title("order failed")
+                .status(409)
+                .extension("orderId", "o-1")
+                .build());
+  }
+
+  @Test
+  void givenNullValues_whenToProblemBuilder_thenSkipsThem() {
+    ProblemMapper mapper = new OrderExceptionMapper();
+
+    Problem problem = mapper.toProblemBuilder(new OrderException(null)).build();
+
+    assertThat(problem)
+        .isEqualTo(
+            Problem.builder()
+                .type("https://example.org/orders/")
+                .title("order failed")
+                .status(409)
+                .build());
+  }
+
+  @Test
+  void givenSubclassOrNull_whenIsMappingCandidate_thenReturnsFalse() {
+    ProblemMapper mapper = new OrderExceptionMapper();
+
+    assertThat(mapper.isMappingCandidate(new OrderException("o-1"))).isTrue();
+    assertThat(mapper.isMappingCandidate(new SpecialOrderException())).isFalse();
+    assertThat(mapper.isMappingCandidate(null)).isFalse();
+    assertThat(mapper.toProblemBuilder(new SpecialOrderException()).build())
+        .isEqualTo(Problem.builder().build());
+  }
+
+  @Test
+  void givenFailingGeneratedCode_whenToProblemBuilder_thenWrapsInProblemMappingException() {
+    ProblemMapper mapper =
+        new GeneratedProblemMapper<OrderException>(OrderException.class) {
+          @Override
+          protected void apply(ProblemBuilder builder, OrderException t, ProblemContext context) {
+            throw new IllegalStateException("boom");
+          }
+        };
+
+    assertThatThrownBy(() -> mapper.toProblemBuilder(new OrderException("o-1")))
+        .isInstanceOf(ProblemMappingException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+  }
+}
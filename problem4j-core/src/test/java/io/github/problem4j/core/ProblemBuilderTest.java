@@ -18,6 +18,12 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
@@ -306,4 +312,62 @@ void givenAssigningTheSameExtensionLater_shouldOverwriteEarlierValues() {
     assertThat(problem.getExtensions()).containsExactly("k");
     assertThat(problem.getExtensionMembers()).isEqualTo(mapOf("k", "v2"));
   }
+
+  @Test
+  void givenBuilderReusedAfterBuild_whenModified_thenEarlierProblemIsUnaffected() {
+    ProblemBuilder builder = Problem.builder().extension("z", 1).extension("a", 2);
+    Problem first = builder.build();
+
+    Problem second = builder.extension("a", 20).extension("m", 3).build();
+
+    assertThat(first.getExtensions()).containsExactly("z", "a");
+    assertThat(first.getExtensionValue("a")).isEqualTo(2);
+    assertThat(second.getExtensions()).containsExactly("z", "a", "m");
+    assertThat(second.getExtensionValue("a")).isEqualTo(20);
+  }
+
+  @Test
+  void givenBuilderFromProblem_whenModified_thenOriginalProblemIsUnaffected() {
+    Problem original = Problem.builder().extension("k", "v").extension("n", 1).build();
+
+    Problem copy = original.toBuilder().build();
+    Problem modified = original.toBuilder().extension("k", "w").build();
+
+    assertThat(copy.getExtensionMembers()).isEqualTo(original.getExtensionMembers());
+    assertThat(original.getExtensionValue("k")).isEqualTo("v");
+    assertThat(modified.getExtensionValue("k")).isEqualTo("w");
+    assertThat(modified.getExtensions()).containsExactly("k", "n");
+  }
+
+  @Test
+  void givenBuilder_whenSerialized_thenKeepsMapBasedFormAndStaysUsable() throws Exception {
+    ProblemBuilder builder = Problem.builder().title("t").status(400);
+    for (int i = 0; i < 12; i++) {
+      builder.extension("k" + i, i);
+    }
+
+    ProblemBuilder copy = roundTrip(builder);
+
+    assertThat(ObjectStreamClass.lookup(AbstractProblemBuilder.class).getFields())
+        .extracting(ObjectStreamField::getName)
+        .containsExactlyInAnyOrder("type", "title", "status", "detail", "instance", "extensions");
+    Problem problem = copy.extension("k3", 33).extension("z", true).build();
+    assertThat(problem.getTitle()).isEqualTo("t");
+    assertThat(problem.getStatus()).isEqualTo(400);
+    assertThat(problem.getExtensions())
+        .containsExactly(
+            "k0", "k1", "k2", "k3", "k4", "k5", "k6", "k7", "k8", "k9", "k10", "k11", "z");
+    assertThat(problem.getExtensionValue("k3")).isEqualTo(33);
+  }
+
+  private static ProblemBuilder roundTrip(ProblemBuilder builder) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(builder);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (ProblemBuilder) in.readObject();
+    }
+  }
 }
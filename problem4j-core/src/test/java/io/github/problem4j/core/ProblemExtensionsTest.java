@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static io.github.problem4j.core.MapUtils.mapOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ProblemExtensionsTest {
+
+  @Test
+  void givenNoExtensions_whenCopyOf_thenReturnsSharedEmptyInstance() {
+    assertThat(ProblemExtensions.copyOf(new HashMap<>())).isSameAs(ProblemExtensions.EMPTY);
+    assertThat(ProblemExtensions.copyOf(null)).isSameAs(ProblemExtensions.EMPTY);
+    assertThat(Problem.builder().build().getExtensionMembers()).isSameAs(ProblemExtensions.EMPTY);
+  }
+
+  @Test
+  void givenMapGrowingDuringCopy_whenCopyOf_thenCopiesEveryIteratedEntry() {
+    Map<String, Object> source = new LinkedHashMap<>();
+    for (int i = 0; i < 10; i++) {
+      source.put("k" + i, i);
+    }
+    Map<String, Object> understated =
+        new AbstractMap<String, Object>() {
+          @Override
+          public Set<Entry<String, Object>> entrySet() {
+            return source.entrySet();
+          }
+
+          @Override
+          public int size() {
+            return 1;
+          }
+        };
+
+    ProblemExtensions extensions = ProblemExtensions.copyOf(understated);
+
+    assertThat(extensions).hasSize(10).isEqualTo(source);
+    assertThat(extensions.keySet()).containsExactlyElementsOf(source.keySet());
+  }
+
+  @Test
+  void givenProblemExtensions_whenCopyOf_thenReturnsSameInstance() {
+    ProblemExtensions extensions = ProblemExtensions.copyOf(mapOf("a", 1));
+
+    assertThat(ProblemExtensions.copyOf(extensions)).isSameAs(extensions);
+  }
+
+  @Test
+  void givenSmallAndLargeMaps_whenLookingUp_thenBehavesLikeSourceMap() {
+    for (int count : new int[] {1, ProblemExtensions.LINEAR_SCAN_THRESHOLD, 100}) {
+      Map<String, Object> source = new LinkedHashMap<>();
+      for (int i = 0; i < count; i++) {
+        source.put("key" + i, i);
+      }
+      source.put("nullValue", null);
+
+      ProblemExtensions extensions = ProblemExtensions.copyOf(source);
+
+      assertThat(extensions).isEqualTo(source).hasSameHashCodeAs(source);
+      assertThat(source).isEqualTo(extensions);
+      assertThat(extensions.keySet()).containsExactlyElementsOf(source.keySet());
+      assertThat(extensions.get("key" + (count - 1))).isEqualTo(count - 1);
+      assertThat(extensions.containsKey("nullValue")).isTrue();
+      assertThat(extensions.get("missing")).isNull();
+      assertThat(extensions.containsKey("missing")).isFalse();
+    }
+  }
+
+  @Test
+  void givenExtensions_whenModifying_thenThrowsUnsupportedOperationException() {
+    Map<String, Object> extensions = ProblemExtensions.copyOf(mapOf("a", 1));
+
+    assertThatThrownBy(() -> extensions.put("b", 2))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> extensions.remove("a"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> extensions.keySet().remove("a"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(ProblemExtensions.EMPTY::clear)
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void givenProblem_whenAccessingExtensions_thenDoesNotCreateNewViews() {
+    Problem problem = Problem.builder().extension("a", 1).extension("b", "x").build();
+
+    assertThat(problem.getExtensionMembers()).isSameAs(problem.getExtensionMembers());
+    assertThat(problem.getExtensions()).isSameAs(problem.getExtensions());
+    assertThat(problem.getExtensions()).containsExactly("a", "b");
+  }
+
+  @Test
+  void givenExtensions_whenSerialized_thenDeserializesEqualMap() throws Exception {
+    ProblemExtensions extensions = ProblemExtensions.copyOf(mapOf("a", 1, "b", "x"));
+
+    assertThat(roundTrip(extensions)).isEqualTo(extensions);
+    assertThat(roundTrip(ProblemExtensions.EMPTY)).isSameAs(ProblemExtensions.EMPTY);
+  }
+
+  @Test
+  void givenOverlaysBeyondMaxDepth_whenLookingUp_thenBehavesLikeCopiedMap() throws Exception {
+    ProblemExtensions extensions = ProblemExtensions.copyOf(mapOf("a", 0, "b", 0));
+    Map<String, Object> expected = new LinkedHashMap<>(extensions);
+
+    for (int i = 0; i < ProblemExtensions.MAX_OVERLAY_DEPTH * 3; i++) {
+      String key = i % 2 == 0 ? "b" : "key" + i;
+      extensions = extensions.with(key, i);
+      expected.put(key, i);
+
+      assertThat(extensions.get(key)).isEqualTo(i);
+      assertThat(extensions).hasSize(expected.size());
+    }
+
+    assertThat(extensions).isEqualTo(expected).hasSameHashCodeAs(expected);
+    assertThat(extensions.keySet()).containsExactlyElementsOf(expected.keySet());
+    assertThat(roundTrip(extensions)).isEqualTo(expected);
+  }
+
+  private static Object roundTrip(Object value) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(value);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return in.readObject();
+    }
+  }
+}
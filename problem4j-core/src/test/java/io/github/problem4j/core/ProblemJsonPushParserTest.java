@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ProblemJsonPushParserTest {
+
+  private final ProblemJsonReader reader = ProblemJsonReader.create();
+
+  private final Problem problem = createProblem();
+
+  private static Problem createProblem() {
+    Map<String, Object> nested = new LinkedHashMap<>();
+    nested.put("list", Arrays.asList(1, "tw\"o 😀", null, -1.5e-3, 10_000_000_000L, true, false));
+    nested.put("empty", new LinkedHashMap<>());
+    return Problem.builder()
+        .type("https://example.org/t")
+        .title("Tïtle \"quoted\" 😀")
+        .status(400)
+        .detail("line\nbreak \\ /")
+        .instance("urn:instance")
+        .extension("count", 42)
+        .extension("nested", nested)
+        .extension("big", new BigInteger("123456789012345678901234567890"))
+        .build();
+  }
+
+  @Test
+  void givenBodySplitAtEveryPossibleChunkSize_whenFeeding_thenReturnsEqualProblem() {
+    byte[] json = ProblemJsonWriter.toJson(problem).getBytes(StandardCharsets.UTF_8);
+
+    for (int chunkSize = 1; chunkSize <= json.length; chunkSize++) {
+      assertThat(push(json, chunkSize, false)).as("chunk size %d", chunkSize).isEqualTo(problem);
+      assertThat(push(json, chunkSize, true)).as("chunk size %d", chunkSize).isEqualTo(problem);
+    }
+  }
+
+  @Test
+  void givenClosingBrace_whenFeeding_thenBecomesComplete() {
+    ProblemJsonPushParser parser = reader.newPushParser();
+
+    parser.feed(ByteBuffer.wrap("{\"status\":4".getBytes(StandardCharsets.UTF_8)));
+    assertThat(parser.isComplete()).isFalse();
+    parser.feed(ByteBuffer.wrap("04} ".getBytes(StandardCharsets.UTF_8)));
+    assertThat(parser.isComplete()).isTrue();
+
+    assertThat(parser.finish()).isEqualTo(Problem.builder().status(404).build());
+    assertThatThrownBy(parser::finish).isInstanceOf(IllegalStateException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "[]",
+        "{",
+        "{\"a\"}",
+        "{\"a\":1,}",
+        "{\"a\":01}",
+        "{\"a\":1.}",
+        "{\"a\":1e+}",
+        "{\"a\":tru}",
+        "{\"a\":\"\\x\"}",
+        "{\"a\":[1 2]}",
+        "{\"a\":{\"b\":1]}",
+        "{\"a\":\"abc",
+        "{} trailing"
+      })
+  void givenMalformedJson_whenFeedingByteByByte_thenFailsLikeReader(String json) {
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    String expected = catchMessage(() -> reader.read(bytes));
+
+    assertThatThrownBy(() -> push(bytes, 1, false))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessage(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"80", "C0 AF", "E2 28 A1", "ED A0 80", "F0 8F BF BF", "F5 80 80 80"})
+  void givenInvalidUtf8_whenFeedingByteByByte_thenFailsLikeReader(String sequence) {
+    byte[] bytes = ProblemJsonReaderTest.withTitleBytes(sequence);
+    String expected = catchMessage(() -> reader.read(bytes));
+
+    assertThat(expected).startsWith("Invalid UTF-8 byte");
+    assertThatThrownBy(() -> push(bytes, 1, false))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessage(expected);
+  }
+
+  @Test
+  void givenNumberLongerThanLimitSplitAcrossChunks_whenFeeding_thenFailsParser() {
+    ProblemJsonReader limited = ProblemJsonReader.builder().maxNumberLength(8).build();
+    byte[] json = "{\"x\":[12345.6789]}".getBytes(StandardCharsets.UTF_8);
+
+    assertThat(push(limited, "{\"x\":1234.678}".getBytes(), 3, false).getExtensionValue("x"))
+        .isEqualTo(1234.678);
+    assertThatThrownBy(() -> push(limited, json, 3, false))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessage(catchMessage(() -> limited.read(json)))
+        .hasMessage("Input exceeds maximum number length of 8");
+  }
+
+  @Test
+  void givenOutOfRangeNumberSplitAcrossChunks_whenFeeding_thenFailsParser() {
+    byte[] json = "{\"x\":1e9999999999,\"title\":\"t\"}".getBytes(StandardCharsets.UTF_8);
+    ProblemJsonPushParser parser = reader.newPushParser();
+
+    parser.feed(ByteBuffer.wrap(json, 0, 8));
+    assertThatThrownBy(() -> parser.feed(ByteBuffer.wrap(json, 8, json.length - 8)))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessage(catchMessage(() -> reader.read(json)))
+        .hasMessage("Number out of range at offset 5");
+    assertThatThrownBy(parser::finish).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void givenLimits_whenInputExceedsThem_thenFailsParser() {
+    ProblemJsonReader limited =
+        ProblemJsonReader.builder().maxSize(64).maxDepth(3).maxExtensions(2).build();
+    ProblemJsonPushParser parser = limited.newPushParser();
+
+    parser.feed(ByteBuffer.wrap("{\"a\":{\"b\":[".getBytes(StandardCharsets.UTF_8)));
+    assertThatThrownBy(() -> parser.feed(ByteBuffer.wrap("[".getBytes(StandardCharsets.UTF_8))))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessageContaining("depth");
+    assertThatThrownBy(() -> parser.feed(ByteBuffer.allocate(0)))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> push(limited, "{\"a\":1,\"b\":2,\"c\":3}".getBytes(), 4, false))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessageContaining("extensions");
+    assertThatThrownBy(() -> limited.newPushParser().feed(ByteBuffer.allocate(65)))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessageContaining("size");
+  }
+
+  private Problem push(byte[] json, int chunkSize, boolean direct) {
+    return push(reader, json, chunkSize, direct);
+  }
+
+  private static Problem push(
+      ProblemJsonReader reader, byte[] json, int chunkSize, boolean direct) {
+    ProblemJsonPushParser parser = reader.newPushParser();
+    for (int i = 0; i < json.length; i += chunkSize) {
+      int length = Math.min(chunkSize, json.length - i);
+      ByteBuffer chunk = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+      chunk.put(json, i, length).flip();
+      parser.feed(chunk);
+      assertThat(chunk.hasRemaining()).isFalse();
+    }
+    return parser.finish();
+  }
+
+  private static String catchMessage(Runnable runnable) {
+    try {
+      runnable.run();
+    } catch (ProblemJsonException e) {
+      return e.getMessage();
+    }
+    throw new AssertionError("Expected ProblemJsonException");
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ProblemJsonReaderTest {
+
+  private final ProblemJsonReader reader = ProblemJsonReader.create();
+
+  private final Problem problem = createProblem();
+
+  private static Problem createProblem() {
+    Map<String, Object> nested = new LinkedHashMap<>();
+    nested.put("list", Arrays.asList(1, "two", null, 3.5, 10_000_000_000L, true));
+    nested.put("empty", new LinkedHashMap<>());
+    return Problem.builder()
+        .type("https://example.org/t")
+        .title("Tïtle \"quoted\" 😀")
+        .status(400)
+        .detail("line\nbreak \\ /")
+        .instance("urn:instance")
+        .extension("count", 42)
+        .extension("nested", nested)
+        .extension("big", new BigInteger("123456789012345678901234567890"))
+        .build();
+  }
+
+  @Test
+  void givenWrittenProblem_whenReadingEachInputType_thenReturnsEqualProblem() throws IOException {
+    String json = ProblemJsonWriter.toJson(problem);
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+
+    assertThat(reader.read(json)).isEqualTo(problem);
+    assertThat(reader.read(bytes)).isEqualTo(problem);
+    assertThat(reader.read(ByteBuffer.wrap(bytes))).isEqualTo(problem);
+    assertThat(reader.read(direct)).isEqualTo(problem);
+    assertThat(direct.hasRemaining()).isFalse();
+    assertThat(reader.read(new ByteArrayInputStream(bytes))).isEqualTo(problem);
+  }
+
+  @Test
+  void givenMembersOfUnexpectedType_whenReading_thenIgnoresThem() {
+    Problem result =
+        reader.read(
+            "{\"status\":\"400\",\"type\":\"not a uri\",\"title\":null,"
+                + "\"nullable\":null,\"repeated\":1,\"repeated\":2,\"unicode\":\"\\u00e9\"}");
+
+    assertThat(result)
+        .isEqualTo(Problem.builder().extension("repeated", 2).extension("unicode", "é").build());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "[]",
+        "{",
+        "{\"a\"}",
+        "{\"a\":1,}",
+        "{\"a\":01}",
+        "{\"a\":1.}",
+        "{\"a\":tru}",
+        "{\"a\":\"\\x\"}",
+        "{\"a\":[1 2]}",
+        "{} trailing"
+      })
+  void givenMalformedJson_whenReading_thenThrowsProblemJsonException(String json) {
+    assertThatThrownBy(() -> reader.read(json)).isInstanceOf(ProblemJsonException.class);
+  }
+
+  @Test
+  void givenLimits_whenInputExceedsThem_thenThrowsProblemJsonException() {
+    ProblemJsonReader limited =
+        ProblemJsonReader.builder().maxSize(64).maxDepth(3).maxExtensions(2).build();
+    String padding = new String(new char[64]).replace('\0', 'x');
+    byte[] tooLarge = ("{\"a\":\"" + padding + "\"}").getBytes(StandardCharsets.UTF_8);
+
+    assertThat(limited.read("{\"a\":{\"b\":{\"c\":1}},\"b\":2,\"title\":\"t\"}").getTitle())
+        .isEqualTo("t");
+    assertThatThrownBy(() -> limited.read("{\"a\":{\"b\":{\"c\":{}}}}"))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessageContaining("depth");
+    assertThatThrownBy(() -> limited.read("{\"a\":1,\"b\":2,\"c\":3}"))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessageContaining("extensions");
+    assertThatThrownBy(() -> limited.read(tooLarge))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessageContaining("size");
+    assertThatThrownBy(() -> limited.read(new ByteArrayInputStream(tooLarge)))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessageContaining("size");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"80", "C0 AF", "E2 28 A1", "ED A0 80", "F0 8F BF BF", "F5 80 80 80"})
+  void givenInvalidUtf8_whenReadingBytes_thenThrowsProblemJsonException(String sequence) {
+    byte[] json = withTitleBytes(sequence);
+    ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+    direct.put(json).flip();
+
+    assertThatThrownBy(() -> reader.read(json))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessageStartingWith("Invalid UTF-8 byte");
+    assertThatThrownBy(() -> reader.read(direct))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessageStartingWith("Invalid UTF-8 byte");
+    assertThatThrownBy(() -> reader.read(new ByteArrayInputStream(json)))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessageStartingWith("Invalid UTF-8 byte");
+  }
+
+  @Test
+  void givenNumberLongerThanLimit_whenReading_thenThrowsProblemJsonException() {
+    char[] sevens = new char[ProblemJsonReader.DEFAULT_MAX_NUMBER_LENGTH];
+    Arrays.fill(sevens, '7');
+    String digits = new String(sevens);
+    ProblemJsonReader limited = ProblemJsonReader.builder().maxNumberLength(4).build();
+
+    assertThat(reader.read("{\"x\":" + digits + "}").getExtensionValue("x"))
+        .isEqualTo(new BigInteger(digits));
+    assertThatThrownBy(() -> reader.read("{\"x\":-" + digits + "}"))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessage("Input exceeds maximum number length of 1000");
+    assertThat(limited.read("{\"x\":-1.5}").getExtensionValue("x")).isEqualTo(-1.5);
+    assertThatThrownBy(() -> limited.read("{\"x\":[1e+10]}".getBytes()))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessage("Input exceeds maximum number length of 4");
+  }
+
+  @Test
+  void givenOutOfRangeExponent_whenReading_thenThrowsProblemJsonException() {
+    assertThatThrownBy(() -> reader.read("{\"x\":1e9999999999}"))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessage("Number out of range at offset 5");
+    assertThatThrownBy(() -> reader.read("{\"x\":[-1.5E+9999999999]}".getBytes()))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessage("Number out of range at offset 6");
+    assertThat(reader.read("{\"x\":1e400}").getExtensionValue("x"))
+        .isEqualTo(new BigDecimal("1e400"));
+  }
+
+  @Test
+  void givenMaximalSizeLimit_whenReadingStream_thenReadsWholeInput() throws IOException {
+    ProblemJsonReader unlimited = ProblemJsonReader.builder().maxSize(Integer.MAX_VALUE).build();
+    byte[] json = withTitleBytes("E2 82 AC F0 9F 98 80");
+
+    Problem problem = unlimited.read(new ByteArrayInputStream(json));
+
+    assertThat(problem.getTitle()).isEqualTo("a\u20ac\ud83d\ude00");
+  }
+
+  /** Returns a problem with title of {@code a} followed by given space-separated hex bytes. */
+  static byte[] withTitleBytes(String sequence) {
+    String[] hex = sequence.split(" ");
+    byte[] prefix = "{\"title\":\"a".getBytes(StandardCharsets.UTF_8);
+    byte[] json = Arrays.copyOf(prefix, prefix.length + hex.length + 2);
+    for (int i = 0; i < hex.length; i++) {
+      json[prefix.length + i] = (byte) Integer.parseInt(hex[i], 16);
+    }
+    json[json.length - 2] = '"';
+    json[json.length - 1] = '}';
+    return json;
+  }
+
+  @Test
+  void givenNonPositiveLimit_whenBuilding_thenThrowsIllegalArgumentException() {
+    assertThatThrownBy(() -> ProblemJsonReader.builder().maxSize(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ProblemJsonReader.builder().maxDepth(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ProblemJsonReader.builder().maxExtensions(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ProblemJsonReader.builder().maxNumberLength(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ProblemJsonWriterTest {
+
+  @Test
+  void givenAllMembers_whenToJson_thenWritesThemInOrder() {
+    Problem problem =
+        Problem.builder()
+            .type("https://example.org/t")
+            .title("Title \"quoted\"")
+            .status(400)
+            .detail("line\nbreak")
+            .instance("urn:instance")
+            .extension("count", 42)
+            .extension("valid", false)
+            .build();
+
+    assertThat(ProblemJsonWriter.toJson(problem))
+        .isEqualTo(
+            "{\"type\":\"https:\\/\\/example.org\\/t\",\"title\":\"Title \\\"quoted\\\"\","
+                + "\"status\":400,\"detail\":\"line\\nbreak\",\"instance\":\"urn:instance\","
+                + "\"count\":42,\"valid\":false}");
+  }
+
+  @Test
+  void givenZeroStatusAndNoTitle_whenToJson_thenSkipsThem() {
+    assertThat(ProblemJsonWriter.toJson(Problem.builder().build()))
+        .isEqualTo("{\"type\":\"about:blank\"}");
+  }
+
+  @Test
+  void givenNestedExtensionValues_whenToJson_thenWritesObjectsAndArrays() {
+    Map<String, Object> nested = new LinkedHashMap<>();
+    nested.put("list", Arrays.asList(1, "two", null));
+    nested.put("array", new int[] {3, 4});
+    Problem problem =
+        Problem.builder()
+            .extension("nested", nested)
+            .extension("nan", Double.NaN)
+            .extension("other", new StringBuilder("text"))
+            .extension("title", "ignored")
+            .build();
+
+    assertThat(ProblemJsonWriter.toJson(problem))
+        .isEqualTo(
+            "{\"type\":\"about:blank\",\"nested\":{\"list\":[1,\"two\",null],\"array\":[3,4]},"
+                + "\"nan\":\"NaN\",\"other\":\"text\"}");
+  }
+
+  @Test
+  void givenNonAsciiCharacters_whenWritingToOutputStream_thenEncodesUtf8() throws IOException {
+    StringBuilder detail = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      detail.append("zé中😀");
+    }
+    Problem problem = Problem.builder().detail(detail.toString()).build();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    ProblemJsonWriter.write(problem, out);
+
+    assertThat(out.toByteArray())
+        .isEqualTo(ProblemJsonWriter.toJson(problem).getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void givenWriter_whenWriting_thenWritesSameJson() throws IOException {
+    Problem problem = Problem.builder().title("t").extension("k", "v").build();
+    StringWriter out = new StringWriter();
+
+    ProblemJsonWriter.write(problem, out);
+
+    assertThat(out.toString()).isEqualTo(ProblemJsonWriter.toJson(problem));
+  }
+
+  @Test
+  void givenWriter_whenWritingEscapedStrings_thenWritesRunsDirectly() throws IOException {
+    Problem problem = Problem.builder().title("a \"quoted\" title").detail("line\nbreak").build();
+    StringWriter out =
+        new StringWriter() {
+          @Override
+          public StringWriter append(CharSequence csq, int start, int end) {
+            throw new AssertionError("subsequence appended");
+          }
+        };
+
+    ProblemJsonWriter.write(problem, out);
+
+    assertThat(out.toString()).isEqualTo(ProblemJsonWriter.toJson(problem));
+  }
+
+  @Test
+  void givenNumbersOfVariousTypes_whenToJson_thenQuotesNonFiniteAndUnknownOnes() {
+    Number custom =
+        new Number() {
+          @Override
+          public int intValue() {
+            return 1;
+          }
+
+          @Override
+          public long longValue() {
+            return 1L;
+          }
+
+          @Override
+          public float floatValue() {
+            return 1f;
+          }
+
+          @Override
+          public double doubleValue() {
+            return 1d;
+          }
+
+          @Override
+          public String toString() {
+            return "one";
+          }
+        };
+    Problem problem =
+        Problem.builder()
+            .extension("long", Long.MAX_VALUE)
+            .extension("big", new BigDecimal("1E+3"))
+            .extension("atomic", new AtomicInteger(7))
+            .extension("float", 1.5f)
+            .extension("infinity", Float.NEGATIVE_INFINITY)
+            .extension("custom", custom)
+            .build();
+
+    assertThat(ProblemJsonWriter.toJson(problem))
+        .isEqualTo(
+            "{\"type\":\"about:blank\",\"long\":9223372036854775807,\"big\":1E+3,"
+                + "\"atomic\":7,\"float\":1.5,\"infinity\":\"-Infinity\",\"custom\":\"one\"}");
+  }
+
+  @Test
+  void givenCanonicalProblem_whenWritingToOutputStream_thenWritesPreEncodedBytes()
+      throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    ProblemJsonWriter.write(Problem.of(ProblemStatus.TOO_MANY_REQUESTS), out);
+
+    assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8))
+        .isEqualTo("{\"type\":\"about:blank\",\"title\":\"Too Many Requests\",\"status\":429}");
+  }
+
+  @Test
+  void givenProblem_whenEncodedLength_thenMatchesUtf8Bytes() {
+    Problem problem = Problem.builder().title("zé中😀").extension("k", Arrays.asList(1, 2)).build();
+
+    assertThat(ProblemJsonWriter.encodedLength(problem))
+        .isEqualTo(ProblemJsonWriter.toJson(problem).getBytes(StandardCharsets.UTF_8).length);
+  }
+
+  @Test
+  void givenDirectBuffer_whenWriting_thenEncodesAtPosition() {
+    Problem problem = Problem.builder().title("zé中😀").status(400).build();
+    byte[] expected = ProblemJsonWriter.toJson(problem).getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length + 4);
+    buffer.position(4);
+
+    int written = ProblemJsonWriter.write(problem, buffer);
+
+    byte[] actual = new byte[written];
+    buffer.position(4);
+    buffer.get(actual);
+    assertThat(written).isEqualTo(expected.length);
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void givenTooSmallBuffer_whenWriting_thenRestoresPositionAndThrows() {
+    Problem problem = Problem.builder().detail("does not fit").build();
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    buffer.position(2);
+
+    assertThatThrownBy(() -> ProblemJsonWriter.write(problem, buffer))
+        .isInstanceOf(BufferOverflowException.class);
+    assertThat(buffer.position()).isEqualTo(2);
+  }
+
+  @Test
+  void givenProblem_whenToByteBuffer_thenReturnsExactlySizedReadableBuffer() {
+    Problem problem = Problem.builder().title("t").build();
+
+    ByteBuffer buffer = ProblemJsonWriter.toByteBuffer(problem);
+
+    assertThat(buffer.position()).isZero();
+    assertThat(buffer.capacity()).isEqualTo(buffer.remaining());
+    assertThat(StandardCharsets.UTF_8.decode(buffer).toString())
+        .isEqualTo(ProblemJsonWriter.toJson(problem));
+  }
+
+  @Test
+  void givenCyclicExtensionValue_whenToJson_thenThrowsIllegalArgumentException() {
+    List<Object> cyclic = new ArrayList<>();
+    cyclic.add(cyclic);
+    Problem problem = Problem.builder().extension("cyclic", cyclic).build();
+
+    assertThatThrownBy(() -> ProblemJsonWriter.toJson(problem))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void givenCyclicExtensionValue_whenWritingToBuffer_thenRestoresPositionAndThrows() {
+    List<Object> cyclic = new ArrayList<>();
+    cyclic.add(cyclic);
+    Problem problem = Problem.builder().title("cycle").extension("cyclic", cyclic).build();
+    ByteBuffer buffer = ByteBuffer.allocate(4096);
+    buffer.position(2);
+
+    assertThatThrownBy(() -> ProblemJsonWriter.write(problem, buffer))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(buffer.position()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProblemMapperBuilderTest {
+
+  @ProblemMapping(title = "Order {orderId} failed", status = 409, extensions = "orderId")
+  static class OrderException extends RuntimeException {
+
+    final String orderId;
+
+    OrderException(String orderId) {
+      this.orderId = orderId;
+    }
+  }
+
+  @ProblemMapping(instance = "not a valid uri", detail = "{missing}")
+  static class BrokenException extends RuntimeException {}
+
+  static class PlainException extends RuntimeException {}
+
+  @TempDir Path tempDir;
+
+  @Test
+  void givenRegisteredClass_whenBuild_thenMapsExceptions() {
+    ProblemMapper mapper = ProblemMapper.builder().register(OrderException.class).build();
+
+    assertThat(mapper.toProblemBuilder(new OrderException("o-1")).build())
+        .isEqualTo(
+            Problem.builder()
+                .title("Order o-1 failed")
+                .status(409)
+                .extension("orderId", "o-1")
+                .build());
+  }
+
+  @Test
+  void givenInvalidMappings_whenBuild_thenReportsAllErrors() {
+    ProblemMapperBuilder builder =
+        ProblemMapper.builder()
+            .register(Arrays.asList(OrderException.class, BrokenException.class))
+            .register(PlainException.class);
+
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(ProblemMappingException.class)
+        .hasMessageContaining(BrokenException.class.getName() + ": instance is not a valid URI")
+        .hasMessageContaining(BrokenException.class.getName() + ": no readable field")
+        .hasMessageContaining(PlainException.class.getName() + ": missing @ProblemMapping")
+        .hasMessageNotContaining(OrderException.class.getName());
+  }
+
+  @Test
+  void givenMappingsIndex_whenDiscoverMappings_thenRegistersListedClasses() throws IOException {
+    Path index = tempDir.resolve(ProblemMapperBuilderImpl.MAPPINGS_INDEX);
+    Files.createDirectories(index.getParent());
+    Files.write(
+        index,
+        Arrays.asList(OrderException.class.getName(), "", BrokenException.class.getName()),
+        StandardCharsets.UTF_8);
+
+    try (URLClassLoader loader =
+        new URLClassLoader(new URL[] {tempDir.toUri().toURL()}, getClass().getClassLoader())) {
+      ProblemMapperBuilder builder = ProblemMapper.builder().discoverMappings(loader);
+
+      assertThatThrownBy(builder::build)
+          .isInstanceOf(ProblemMappingException.class)
+          .hasMessageContaining(BrokenException.class.getName())
+          .hasMessageNotContaining(OrderException.class.getName());
+    }
+  }
+
+  @Test
+  void givenUnknownClassInIndex_whenDiscoverMappings_thenReportsIt() throws IOException {
+    Path index = tempDir.resolve(ProblemMapperBuilderImpl.MAPPINGS_INDEX);
+    Files.createDirectories(index.getParent());
+    Files.write(index, Arrays.asList("com.example.MissingException"), StandardCharsets.UTF_8);
+
+    try (URLClassLoader loader =
+        new URLClassLoader(new URL[] {tempDir.toUri().toURL()}, getClass().getClassLoader())) {
+      ProblemMapperBuilder builder = ProblemMapper.builder().discoverMappings(loader);
+
+      assertThatThrownBy(builder::build)
+          .isInstanceOf(ProblemMappingException.class)
+          .hasMessageContaining("com.example.MissingException: failed to load class");
+    }
+  }
+}
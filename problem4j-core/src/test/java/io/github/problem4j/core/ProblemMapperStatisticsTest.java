@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ProblemMapperStatisticsTest {
+
+  @ProblemMapping(title = "Order {orderId} failed", status = 409)
+  static class OrderException extends RuntimeException {
+
+    final String orderId = "o-1";
+  }
+
+  @ProblemMapping(title = "{message}")
+  static class FailingException extends RuntimeException {
+
+    @Override
+    public String getMessage() {
+      throw new IllegalStateException("boom");
+    }
+  }
+
+  @Test
+  void givenStatisticsListener_whenMapping_thenCountsPerClass() {
+    ProblemMapperStatistics statistics = new ProblemMapperStatistics();
+    ProblemMapper mapper = ProblemMapper.builder().listener(statistics).build();
+
+    for (int i = 0; i < 3; i++) {
+      mapper.toProblemBuilder(new OrderException());
+      mapper.toProblemBuilder(new IllegalStateException());
+    }
+    assertThatThrownBy(() -> mapper.toProblemBuilder(new FailingException()))
+        .isInstanceOf(ProblemMappingException.class);
+
+    Map<Class<?>, ProblemMapperStatistics.Snapshot> snapshot = statistics.snapshot();
+
+    ProblemMapperStatistics.Snapshot order = snapshot.get(OrderException.class);
+    assertThat(order.getMappings()).isEqualTo(3);
+    assertThat(order.getUnmapped()).isZero();
+    assertThat(order.getFailures()).isZero();
+    assertThat(order.getPlanMisses()).isEqualTo(1);
+    assertThat(order.getHistogram())
+        .hasSize(ProblemMapperStatistics.getBucketBoundsNanos().length + 1);
+    assertThat(sum(order.getHistogram())).isEqualTo(3);
+
+    ProblemMapperStatistics.Snapshot plain = snapshot.get(IllegalStateException.class);
+    assertThat(plain.getMappings()).isEqualTo(3);
+    assertThat(plain.getUnmapped()).isEqualTo(3);
+    assertThat(sum(plain.getHistogram())).isZero();
+
+    ProblemMapperStatistics.Snapshot failing = snapshot.get(FailingException.class);
+    assertThat(failing.getMappings()).isEqualTo(1);
+    assertThat(failing.getFailures()).isEqualTo(1);
+  }
+
+  @Test
+  void givenFailingPlanCompilation_whenMapping_thenCountsFailure() {
+    ProblemMapperStatistics statistics = new ProblemMapperStatistics();
+    ProblemMapper mapper =
+        new AbstractProblemMapper(statistics) {
+          @Override
+          protected ProblemMapping findAnnotation(Class<?> clazz) {
+            throw new IllegalStateException("no annotations");
+          }
+        };
+
+    assertThatThrownBy(() -> mapper.toProblemBuilder(new OrderException()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("no annotations");
+
+    ProblemMapperStatistics.Snapshot order = statistics.snapshot().get(OrderException.class);
+    assertThat(order.getMappings()).isEqualTo(1);
+    assertThat(order.getFailures()).isEqualTo(1);
+  }
+
+  @Test
+  void givenRecordedMappings_whenReset_thenStartsCountingAgain() {
+    ProblemMapperStatistics statistics = new ProblemMapperStatistics();
+    statistics.mappingFinished(OrderException.class, true, false, 10L);
+
+    statistics.reset();
+    statistics.mappingFinished(IllegalStateException.class, false, true, 0L);
+
+    assertThat(statistics.snapshot()).containsOnlyKeys(IllegalStateException.class);
+    assertThat(statistics.snapshot().get(IllegalStateException.class).getMappings()).isEqualTo(1);
+  }
+
+  @Test
+  void givenListener_whenMapping_thenNotifiesStartAndEnd() {
+    List<String> events = new ArrayList<>();
+    ProblemMapperListener listener =
+        new ProblemMapperListener() {
+          @Override
+          public void mappingStarted(Class<? extends Throwable> type) {
+            events.add("started " + type.getSimpleName());
+          }
+
+          @Override
+          public void mappingFinished(
+              Class<? extends Throwable> type,
+              boolean mapped,
+              boolean cachedPlan,
+              long interpolationNanos) {
+            events.add("finished " + type.getSimpleName() + " " + mapped + " " + cachedPlan);
+          }
+        };
+    ProblemMapper mapper = ProblemMapper.builder().listener(listener).build();
+
+    mapper.toProblemBuilder(new OrderException());
+    mapper.toProblemBuilder(new OrderException());
+    mapper.toProblemBuilder(null);
+
+    assertThat(events)
+        .containsExactly(
+            "started OrderException",
+            "finished OrderException true false",
+            "started OrderException",
+            "finished OrderException true true");
+  }
+
+  private static long sum(long[] values) {
+    long sum = 0;
+    for (long value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+}
@@ -16,6 +16,14 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -273,6 +281,299 @@ class MalformedPlaceholderException extends RuntimeException {
                 .build());
   }
 
+  @Test
+  void givenSameExceptionClassMappedRepeatedly_whenToProblemBuilder_thenEachCallUsesOwnValues() {
+    @ProblemMapping(
+        type = " https://example.org/probs/repeat ",
+        title = " Repeat {message} ",
+        status = 409,
+        extensions = {" code ", "", " "})
+    class RepeatedException extends RuntimeException {
+
+      private final String code;
+
+      RepeatedException(String message, String code) {
+        super(message);
+        this.code = code;
+      }
+    }
+
+    Problem first = processor.toProblemBuilder(new RepeatedException("one", "c1")).build();
+    Problem second = processor.toProblemBuilder(new RepeatedException("two", "c2")).build();
+
+    assertThat(first)
+        .isEqualTo(
+            Problem.builder()
+                .type("https://example.org/probs/repeat")
+                .title("Repeat one")
+                .status(409)
+                .extension("code", "c1")
+                .build());
+    assertThat(second)
+        .isEqualTo(
+            Problem.builder()
+                .type("https://example.org/probs/repeat")
+                .title("Repeat two")
+                .status(409)
+                .extension("code", "c2")
+                .build());
+  }
+
+  @Test
+  void givenFieldsDeclaredInSuperclass_whenToProblemBuilder_thenResolvesNearestField() {
+    class BaseFieldException extends RuntimeException {
+
+      protected final String code = "base-code";
+      private final String shadowed = "base";
+    }
+
+    @ProblemMapping(detail = "{code}:{shadowed}:{missing}", extensions = {"code", "missing"})
+    class ChildFieldException extends BaseFieldException {
+
+      private final String shadowed = "child";
+    }
+
+    Problem first = processor.toProblemBuilder(new ChildFieldException()).build();
+    Problem second = processor.toProblemBuilder(new ChildFieldException()).build();
+
+    Problem expected =
+        Problem.builder().detail("base-code:child:").extension("code", "base-code").build();
+    assertThat(first).isEqualTo(expected);
+    assertThat(second).isEqualTo(expected);
+  }
+
+  @Test
+  void givenEmptyAndNestedBraces_whenToProblemBuilder_thenKeepsThemAsLiterals() {
+    @ProblemMapping(title = "{} {{message}} {message", detail = "}{message}{")
+    class BracesException extends RuntimeException {
+      BracesException(String message) {
+        super(message);
+      }
+    }
+
+    Problem problem = processor.toProblemBuilder(new BracesException("m")).build();
+
+    assertThat(problem)
+        .isEqualTo(Problem.builder().title("{} {m} {message").detail("}m{").build());
+  }
+
+  @Test
+  void givenConstantUris_whenToProblemBuilder_thenReusesParsedUriAndSkipsInvalidOnes() {
+    @ProblemMapping(type = "https://example.org/constant", instance = "not a valid uri")
+    class ConstantUriException extends RuntimeException {}
+
+    Problem first = processor.toProblemBuilder(new ConstantUriException()).build();
+    Problem second = processor.toProblemBuilder(new ConstantUriException()).build();
+
+    assertThat(first.getType()).isEqualTo(URI.create("https://example.org/constant"));
+    assertThat(second.getType()).isSameAs(first.getType());
+    assertThat(first.getInstance()).isNull();
+    assertThat(second.getInstance()).isNull();
+  }
+
+  @Test
+  void givenNestedPathsAndAccessorMethods_whenToProblemBuilder_thenResolvesThem() {
+    class Customer {
+      private final String id = "c-1";
+
+      String getName() {
+        return "Alice";
+      }
+
+      boolean isVip() {
+        return true;
+      }
+    }
+
+    class Order {
+      private final Customer customer = new Customer();
+      private final List<String> items = Collections.unmodifiableList(Arrays.asList("a", "b"));
+    }
+
+    @ProblemMapping(
+        title = "{order.customer.name} ({order.customer.id})",
+        detail = "code={getCode}/{code} vip={order.customer.vip} items={order.items.size}",
+        instance = "{order.missing.id}",
+        extensions = {"order.customer.id", "code"})
+    class OrderException extends RuntimeException {
+      private final Order order = new Order();
+
+      int getCode() {
+        return 42;
+      }
+    }
+
+    Problem problem = processor.toProblemBuilder(new OrderException()).build();
+
+    assertThat(problem)
+        .isEqualTo(
+            Problem.builder()
+                .title("Alice (c-1)")
+                .detail("code=42/42 vip=true items=2")
+                .extension("order.customer.id", "c-1")
+                .extension("code", 42)
+                .build());
+  }
+
+  @Test
+  void givenThrowableMethodNames_whenToProblemBuilder_thenDoesNotInvokeThem() {
+    AtomicInteger fills = new AtomicInteger();
+
+    @ProblemMapping(
+        title = "{fillInStackTrace}{toString}{hashCode}",
+        detail = "{localizedMessage}")
+    class TracedException extends RuntimeException {
+      TracedException() {
+        super("traced");
+      }
+
+      @Override
+      public synchronized Throwable fillInStackTrace() {
+        fills.incrementAndGet();
+        return this;
+      }
+    }
+
+    TracedException exception = new TracedException();
+    int filled = fills.get();
+
+    Problem problem = processor.toProblemBuilder(exception).build();
+
+    assertThat(problem).isEqualTo(Problem.builder().detail("traced").build());
+    assertThat(fills.get()).isEqualTo(filled);
+  }
+
+  @Test
+  void givenFormatSpecifiers_whenToProblemBuilder_thenFormatsValues() {
+    @ProblemMapping(
+        title = "Charged {amount:%.2f} of {limit:%08.2f} in {elapsed:ms} ms",
+        detail = "{attempt:%03d}/{mask:%04x} {message:%.5s} {context.a:b} {attempt:%q}",
+        extensions = {"attempt"})
+    class PaymentException extends RuntimeException {
+      private final double amount = 12.345;
+      private final long limit = 100L;
+      private final Duration elapsed = Duration.ofSeconds(2);
+      private final int attempt = 7;
+      private final int mask = 255;
+
+      PaymentException() {
+        super("declined by bank");
+      }
+    }
+
+    Problem problem =
+        processor
+            .toProblemBuilder(new PaymentException(), ProblemContext.create().put("a:b", "ctx"))
+            .build();
+
+    assertThat(problem)
+        .isEqualTo(
+            Problem.builder()
+                .title("Charged 12.35 of 00100.00 in 2000 ms")
+                .detail("007/00ff decli ctx ")
+                .extension("attempt", 7)
+                .build());
+  }
+
+  @Test
+  void givenFloatsAndExtremeDurations_whenToProblemBuilder_thenFormatsThemAsFormatterWould() {
+    @ProblemMapping(
+        title = "{ratio:%.10f} {drift:%.2f} {drift:%6.1f}",
+        detail = "{uptime:ns} {uptime:us} {uptime:ms} {skew:ns}")
+    class ClockException extends RuntimeException {
+      private final float ratio = 0.1f;
+      private final float drift = -0.002f;
+      private final Duration uptime = Duration.ofDays(365L * 1000);
+      private final Duration skew = Duration.ofNanos(-1_500);
+    }
+
+    Problem problem = processor.toProblemBuilder(new ClockException()).build();
+
+    assertThat(problem.getTitle())
+        .isEqualTo("0.1000000015 -0.00   -0.0")
+        .isEqualTo(String.format(Locale.ROOT, "%.10f %.2f %6.1f", 0.1f, -0.002f, -0.002f));
+    assertThat(problem.getDetail())
+        .isEqualTo(Long.MAX_VALUE + " " + 31536000000000000L + " " + 31536000000000L + " -1500");
+  }
+
+  @Test
+  void givenContextKeyWithNullValue_whenToProblemBuilder_thenRendersNull() {
+    @ProblemMapping(detail = "trace:{context.traceId} span:{context.spanId}")
+    class TracedException extends RuntimeException {}
+
+    ProblemContext context =
+        new AbstractProblemContext(Collections.singletonMap("traceId", null)) {};
+
+    Problem problem = processor.toProblemBuilder(new TracedException(), context).build();
+
+    assertThat(problem.getDetail()).isEqualTo("trace:null span:");
+  }
+
+  @Test
+  void givenNegativeFractionalDurations_whenToProblemBuilder_thenTruncatesTowardsZero() {
+    @ProblemMapping(detail = "{lag:s} {lag:ms} {backoff:m} {backoff:h}")
+    class LagException extends RuntimeException {
+      private final Duration lag = Duration.ofMillis(-1_500);
+      private final Duration backoff = Duration.ofSeconds(-3_599).minusMillis(500);
+    }
+
+    Problem problem = processor.toProblemBuilder(new LagException()).build();
+
+    assertThat(problem.getDetail()).isEqualTo("-1 -1500 -59 0");
+  }
+
+  @Test
+  void givenOverriddenHook_whenToProblemBuilder_thenCallsHook() {
+    @ProblemMapping(title = "Order {id} failed", status = 409, detail = "{message}")
+    class OrderException extends RuntimeException {
+      final String id = "o-1";
+
+      OrderException() {
+        super("rejected");
+      }
+    }
+
+    ProblemMapper mapper =
+        new AbstractProblemMapper() {
+          @Override
+          protected void applyTitleOnBuilder(
+              ProblemBuilder builder, ProblemMapping mapping, Throwable t, ProblemContext context) {
+            builder.title("HOOKED");
+          }
+        };
+
+    assertThat(mapper.toProblemBuilder(new OrderException()).build())
+        .isEqualTo(Problem.builder().title("HOOKED").status(409).detail("rejected").build());
+    assertThat(mapper.tryMap(new IllegalStateException(), null)).isNull();
+  }
+
+  @Test
+  void givenOverriddenInterpolate_whenToProblemBuilder_thenRendersValuesThroughIt() {
+    @ProblemMapping(
+        type = "https://example.org/{kind}",
+        title = "Order {kind} failed",
+        detail = "constant")
+    class OrderException extends RuntimeException {
+      final String kind = "late";
+    }
+
+    ProblemMapper mapper =
+        new AbstractProblemMapper() {
+          @Override
+          protected String interpolate(String template, Throwable t, ProblemContext context) {
+            return super.interpolate(template, t, context).toUpperCase(Locale.ROOT);
+          }
+        };
+
+    assertThat(mapper.toProblemBuilder(new OrderException()).build())
+        .isEqualTo(
+            Problem.builder()
+                .type("HTTPS://EXAMPLE.ORG/LATE")
+                .title("ORDER LATE FAILED")
+                .detail("CONSTANT")
+                .build());
+  }
+
   @Test
   void isMappingCandidate_returnsTrue_forDirectAnnotation() {
     @ProblemMapping(type = "type", title = "title")
@@ -308,4 +609,75 @@ class SubException extends BaseException {}
   void isMappingCandidate_returnsFalse_forNull() {
     assertThat(processor.isMappingCandidate(null)).isFalse();
   }
+
+  @Test
+  void tryMap_returnsNull_forUnannotatedExceptionAndNull() {
+    class PlainException extends RuntimeException {}
+
+    Throwable ex = new PlainException();
+
+    assertThat(processor.tryMap(ex)).isNull();
+    assertThat(processor.tryMap(ex, ProblemContext.create())).isNull();
+    assertThat(processor.tryMap(null)).isNull();
+    assertThat(processor.toProblemBuilder(ex).build()).isEqualTo(Problem.builder().build());
+  }
+
+  @Test
+  void tryMap_returnsBuilder_forAnnotatedException() {
+    @ProblemMapping(title = "title {message}", status = 400)
+    class AnnotatedException extends RuntimeException {
+      AnnotatedException() {
+        super("msg");
+      }
+    }
+
+    Throwable ex = new AnnotatedException();
+
+    assertThat(processor.isMappingCandidate(ex)).isTrue();
+    assertThat(processor.tryMap(ex).build())
+        .isEqualTo(Problem.builder().title("title msg").status(400).build());
+  }
+
+  @Test
+  void toProblems_mapsEachThrowableInOrder() {
+    @ProblemMapping(title = "Item {item} failed", status = 422)
+    class ItemException extends RuntimeException {
+      final int item;
+
+      ItemException(int item) {
+        this.item = item;
+      }
+    }
+
+    List<Problem> problems =
+        processor.toProblems(
+            Arrays.asList(new ItemException(1), new IllegalStateException(), null));
+
+    assertThat(problems)
+        .containsExactly(
+            Problem.builder().title("Item 1 failed").status(422).build(),
+            Problem.builder().build(),
+            Problem.builder().build());
+  }
+
+  @Test
+  void toProblemsParallel_returnsSameResultAsSequential() {
+    @ProblemMapping(title = "Item {item} failed", detail = "{context.job}")
+    class ItemException extends RuntimeException {
+      final int item;
+
+      ItemException(int item) {
+        this.item = item;
+      }
+    }
+
+    List<Throwable> throwables = new ArrayList<>();
+    for (int i = 0; i < ProblemBatch.PARALLEL_THRESHOLD * 4; i++) {
+      throwables.add(i % 3 == 0 ? new IllegalStateException() : new ItemException(i));
+    }
+    ProblemContext context = ProblemContext.create().put("job", "import");
+
+    assertThat(processor.toProblemsParallel(throwables, context))
+        .isEqualTo(processor.toProblems(throwables, context));
+  }
 }
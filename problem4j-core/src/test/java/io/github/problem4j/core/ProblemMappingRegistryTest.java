@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class ProblemMappingRegistryTest {
+
+  interface Retryable {}
+
+  static class BaseException extends RuntimeException implements Retryable {}
+
+  static class SubException extends BaseException {}
+
+  static class RetryableIOException extends IOException implements Retryable {}
+
+  static class RetryableException extends Exception implements Retryable {}
+
+  @ProblemMapping(title = "annotated")
+  static class AnnotatedException extends RuntimeException {}
+
+  @Test
+  void givenRegisteredSupertypes_whenFind_thenReturnsNearestOne() {
+    ProblemMapping retryable = ProblemMappingRegistry.mapping().title("retryable").build();
+    ProblemMapping base = ProblemMappingRegistry.mapping().title("base").build();
+    ProblemMapping io = ProblemMappingRegistry.mapping().title("io").build();
+
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.builder()
+            .register(Retryable.class, retryable)
+            .register(BaseException.class, base)
+            .register(IOException.class, io)
+            .build();
+
+    assertThat(registry.find(SubException.class)).isSameAs(base);
+    assertThat(registry.find(BaseException.class)).isSameAs(base);
+    assertThat(registry.find(FileNotFoundException.class)).isSameAs(io);
+    assertThat(registry.find(RetryableIOException.class)).isSameAs(io);
+    assertThat(registry.find(RetryableException.class)).isSameAs(retryable);
+    assertThat(registry.find(IllegalStateException.class)).isNull();
+  }
+
+  @Test
+  void givenProgrammaticMapping_whenComparedWithAnnotation_thenIsEqual() {
+    ProblemMapping annotation = AnnotatedException.class.getAnnotation(ProblemMapping.class);
+    ProblemMapping mapping = ProblemMappingRegistry.mapping().title("annotated").build();
+
+    assertThat(mapping).isEqualTo(annotation);
+    assertThat(annotation).isEqualTo(mapping);
+    assertThat(mapping.hashCode()).isEqualTo(annotation.hashCode());
+    assertThat(mapping.annotationType()).isEqualTo(ProblemMapping.class);
+  }
+
+  @Test
+  void givenRegistry_whenMapping_thenMapsUnannotatedExceptionsAndKeepsAnnotations() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.builder()
+            .register(
+                TimeoutException.class,
+                ProblemMappingRegistry.mapping()
+                    .status(ProblemStatus.GATEWAY_TIMEOUT)
+                    .detail("{message}")
+                    .build())
+            .register(
+                RuntimeException.class, ProblemMappingRegistry.mapping().title("runtime").build())
+            .build();
+
+    ProblemMapper mapper = ProblemMapper.builder().registry(registry).build();
+
+    assertThat(mapper.isMappingCandidate(new TimeoutException())).isTrue();
+    assertThat(mapper.toProblemBuilder(new TimeoutException("too slow")).build())
+        .isEqualTo(
+            Problem.builder()
+                .title("Gateway Timeout")
+                .status(ProblemStatus.GATEWAY_TIMEOUT)
+                .detail("too slow")
+                .build());
+    assertThat(mapper.toProblemBuilder(new IllegalStateException()).build())
+        .isEqualTo(Problem.builder().title("runtime").build());
+    assertThat(mapper.toProblemBuilder(new AnnotatedException()).build())
+        .isEqualTo(Problem.builder().title("annotated").build());
+    assertThat(mapper.tryMap(new IOException())).isNull();
+  }
+}
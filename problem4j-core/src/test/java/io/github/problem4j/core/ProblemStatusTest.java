@@ -17,10 +17,15 @@
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 class ProblemStatusTest {
@@ -62,4 +67,26 @@ void givenSingleDeprecatedStatusCode_shouldKeepIt(int value) throws NoSuchFieldE
         .withFailMessage("there were more than 1 candidates for " + value)
         .isEqualTo(1);
   }
+
+  @ParameterizedTest
+  @EnumSource(ProblemStatus.class)
+  void givenStatus_whenWritingProblemJson_thenWritesEncodedCanonicalProblem(ProblemStatus status)
+      throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    status.writeProblemJson(out);
+
+    ByteBuffer buffer = status.getProblemJson();
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+
+    String expected =
+        "{\"type\":\"about:blank\",\"title\":\""
+            + status.getTitle()
+            + "\",\"status\":"
+            + status.getStatus()
+            + "}";
+    assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(expected);
+    assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(expected);
+    assertThat(status.getProblemJson().isReadOnly()).isTrue();
+  }
 }
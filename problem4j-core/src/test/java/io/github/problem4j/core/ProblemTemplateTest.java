@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+
+class ProblemTemplateTest {
+
+  private final ProblemTemplate template =
+      ProblemTemplate.of(
+          Problem.builder()
+              .type("https://example.org/out-of-stock")
+              .status(ProblemStatus.CONFLICT)
+              .detail("default detail")
+              .extension("retryable", false)
+              .extension("region", "eu")
+              .build());
+
+  @Test
+  void givenTemplate_whenStampingDetailAndInstance_thenEqualsBuiltProblem() {
+    URI instance = URI.create("https://example.org/items/1");
+
+    Problem problem = template.with("Item 1 is out of stock", instance);
+
+    assertThat(problem)
+        .isEqualTo(
+            Problem.builder()
+                .type("https://example.org/out-of-stock")
+                .status(ProblemStatus.CONFLICT)
+                .detail("Item 1 is out of stock")
+                .instance(instance)
+                .extension("retryable", false)
+                .extension("region", "eu")
+                .build());
+    assertThat(problem.getExtensionMembers())
+        .isSameAs(template.toProblem().getExtensionMembers());
+  }
+
+  @Test
+  void givenTemplate_whenStampingDetailOnly_thenKeepsTemplateInstance() {
+    Problem problem = template.with("other");
+
+    assertThat(problem.getDetail()).isEqualTo("other");
+    assertThat(problem.getInstance()).isNull();
+    assertThat(template.toProblem().getDetail()).isEqualTo("default detail");
+  }
+
+  @Test
+  void givenTemplate_whenStampingExtension_thenAddsOrReplacesItInOrder() {
+    Problem added = template.with(null, null, "itemId", 7);
+    Problem replaced = template.with(null, null, "region", "us");
+    Problem skipped = template.with(null, null, "itemId", null);
+
+    assertThat(added.getExtensions()).containsExactly("retryable", "region", "itemId");
+    assertThat(added.getExtensionValue("itemId")).isEqualTo(7);
+    assertThat(replaced.getExtensions()).containsExactly("retryable", "region");
+    assertThat(replaced.getExtensionValue("region")).isEqualTo("us");
+    assertThat(skipped.getExtensions()).containsExactly("retryable", "region");
+    assertThat(template.toProblem().getExtensionValue("region")).isEqualTo("eu");
+  }
+
+  @Test
+  void givenNullPrototype_whenCreatingTemplate_thenThrowsIllegalArgumentException() {
+    assertThatThrownBy(() -> ProblemTemplate.of(null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
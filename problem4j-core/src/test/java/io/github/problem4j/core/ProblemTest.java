@@ -18,6 +18,7 @@
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -78,4 +79,49 @@ void givenProblemExtensionWithKey_shouldCreateExtension() {
     assertThat(ext.getKey()).isEqualTo("code");
     assertThat(ext.getValue()).isEqualTo(123);
   }
+
+  @Test
+  void givenEveryProblemStatus_whenOf_thenReturnsSharedStatusOnlyProblem() {
+    for (ProblemStatus status : ProblemStatus.values()) {
+      Problem problem = Problem.of(status);
+
+      Problem built = Problem.builder().status(status).title(status.getTitle()).build();
+
+      assertThat(problem).isSameAs(Problem.of(status));
+      assertThat(problem).isEqualTo(built);
+      assertThat(new String(((CanonicalProblem) problem).json(), StandardCharsets.UTF_8))
+          .isEqualTo(ProblemJsonWriter.toJson(built));
+    }
+  }
+
+  @Test
+  void givenNullStatus_whenOf_thenThrowsIllegalArgumentException() {
+    assertThatThrownBy(() -> Problem.of(null)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void givenProblem_whenWithExtension_thenEqualsProblemBuiltWithExtension() {
+    Problem problem = Problem.builder().title("t").extension("a", 1).extension("b", 2).build();
+
+    Problem derived = problem.withExtension("b", 20).withExtension("traceId", "T-1");
+
+    assertThat(derived)
+        .isEqualTo(problem.toBuilder().extension("b", 20).extension("traceId", "T-1").build());
+    assertThat(derived.getExtensions()).containsExactly("a", "b", "traceId");
+    assertThat(problem.getExtensionValue("b")).isEqualTo(2);
+    assertThat(problem.hasExtension("traceId")).isFalse();
+    assertThat(problem.withExtension("c", null)).isSameAs(problem);
+  }
+
+  @Test
+  void givenProblem_whenWithInstance_thenSharesExtensions() {
+    Problem problem = Problem.builder().title("t").extension("a", 1).build();
+    URI instance = URI.create("https://example.org/instances/1");
+
+    Problem derived = problem.withInstance(instance);
+
+    assertThat(derived).isEqualTo(problem.toBuilder().instance(instance).build());
+    assertThat(derived.getExtensionMembers()).isSameAs(problem.getExtensionMembers());
+    assertThat(problem.getInstance()).isNull();
+  }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * SPDX-License-Identifier: MIT
+ */
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RawJsonProblemTest {
+
+  private static final String JSON =
+      " {\"type\":\"https://example.org/t\",\"title\":\"T\\u00e9 \\\"q\\\"\",\"status\":409,"
+          + "\"detail\":\"d\",\"instance\":\"urn:x\",\"a\":[1,{\"b\":null}],\"n\":null,"
+          + "\"c\":1.5,\"a\":2} ";
+
+  private final ProblemJsonReader reader = ProblemJsonReader.create();
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "{}",
+        JSON,
+        "{\"status\":\"400\",\"type\":\"not a uri\",\"title\":null,\"title\":\"x\",\"title\":5,"
+            + "\"repeated\":1,\"repeated\":null,\"status\":404}",
+        "{\"e1\":1,\"e2\":2,\"e3\":3,\"e4\":4,\"e5\":5,\"e6\":6,\"e7\":7,\"e8\":8,\"e9\":9,"
+            + "\"e10\":{\"x\":[true,false,null]},\"e3\":33}"
+      })
+  void givenJson_whenReadingLazily_thenEqualsParsedProblem(String json) {
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    Problem parsed = reader.read(bytes);
+
+    Problem lazy = reader.readLazily(bytes);
+
+    assertThat(lazy).isEqualTo(parsed).hasSameHashCodeAs(parsed).hasToString(parsed.toString());
+    assertThat(parsed).isEqualTo(lazy);
+    assertThat(lazy.getExtensions()).containsExactlyElementsOf(parsed.getExtensions());
+    for (String name : parsed.getExtensions()) {
+      assertThat(lazy.getExtensionValue(name)).isEqualTo(parsed.getExtensionValue(name));
+    }
+    assertThat(lazy.getExtensionMembers()).isEqualTo(parsed.getExtensionMembers());
+  }
+
+  @Test
+  void givenLazyProblem_whenAccessingMembers_thenParsesOnlyRequestedValues() {
+    Problem problem = reader.readLazily(JSON.getBytes(StandardCharsets.UTF_8));
+
+    assertThat(problem.getStatus()).isEqualTo(409);
+    assertThat(problem.getType()).isEqualTo(URI.create("https://example.org/t"));
+    assertThat(problem.getTitle()).isEqualTo("Té \"q\"").isSameAs(problem.getTitle());
+    assertThat(problem.hasExtension("a")).isTrue();
+    assertThat(problem.hasExtension("n")).isFalse();
+    assertThat(problem.getExtensionValue("a")).isEqualTo(2);
+    assertThat(problem.getExtensionValue("n")).isNull();
+  }
+
+  @Test
+  void givenUnmodifiedProblem_whenWritingBytes_thenWritesOriginalInput() throws IOException {
+    byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+    Problem problem = reader.readLazily(bytes);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+
+    ProblemJsonWriter.write(problem, out);
+    int written = ProblemJsonWriter.write(problem, buffer);
+
+    assertThat(out.toByteArray()).isEqualTo(bytes);
+    assertThat(ProblemJsonWriter.encodedLength(problem)).isEqualTo(bytes.length);
+    assertThat(written).isEqualTo(bytes.length);
+    assertThat(ProblemJsonWriter.toByteBuffer(problem).array()).isEqualTo(bytes);
+  }
+
+  @Test
+  void givenDerivedProblem_whenWritingBytes_thenEncodesIt() {
+    byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+    Problem problem = reader.readLazily(bytes);
+
+    Problem derived = problem.withExtension("traceId", "t-1");
+
+    assertThat(derived).isNotInstanceOf(RawJsonProblem.class);
+    assertThat(derived).isEqualTo(reader.read(bytes).withExtension("traceId", "t-1"));
+    assertThat(reader.read(ProblemJsonWriter.toByteBuffer(derived))).isEqualTo(derived);
+  }
+
+  @Test
+  void givenLazyProblem_whenSerializing_thenDeserializesAsParsedProblem() throws Exception {
+    Problem problem = reader.readLazily(JSON.getBytes(StandardCharsets.UTF_8));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(problem);
+    }
+    Object result;
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      result = in.readObject();
+    }
+
+    assertThat(result).isInstanceOf(ProblemImpl.class).isEqualTo(problem);
+  }
+
+  @Test
+  void givenInvalidInput_whenReadingLazily_thenFailsLikeReader() {
+    ProblemJsonReader limited = ProblemJsonReader.builder().maxDepth(2).maxExtensions(1).build();
+
+    for (String json : Arrays.asList("", "{\"a\":1,}", "{\"a\":[1 2]}", "{} x")) {
+      byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+      assertThatThrownBy(() -> reader.readLazily(bytes)).isInstanceOf(ProblemJsonException.class);
+    }
+    assertThatThrownBy(() -> limited.readLazily("{\"a\":[[1]]}".getBytes(StandardCharsets.UTF_8)))
+        .hasMessageContaining("depth");
+    assertThatThrownBy(
+            () -> limited.readLazily("{\"a\":1,\"b\":null}".getBytes(StandardCharsets.UTF_8)))
+        .hasMessageContaining("extensions");
+  }
+
+  @Test
+  void givenOutOfRangeOrTooLongNumber_whenReadingLazily_thenFailsAtReadTime() {
+    ProblemJsonReader limited = ProblemJsonReader.builder().maxNumberLength(8).build();
+    byte[] outOfRange = "{\"x\":{\"y\":1e9999999999}}".getBytes(StandardCharsets.UTF_8);
+    byte[] tooLong = "{\"x\":[123456789]}".getBytes(StandardCharsets.UTF_8);
+
+    assertThatThrownBy(() -> reader.readLazily(outOfRange))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessage("Number out of range at offset 10");
+    assertThatThrownBy(() -> limited.readLazily(tooLong))
+        .isInstanceOf(ProblemJsonException.class)
+        .hasMessage("Input exceeds maximum number length of 8");
+  }
+}
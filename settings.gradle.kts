@@ -13,3 +13,4 @@
 rootProject.name = "problem4j-core-root"
 
 include(":problem4j-core")
+include(":problem4j-core-processor")